@@ -1,5 +1,5 @@
 // 인증 관련 API
-import { AuthResponse, LoginRequest, SignUpRequest, UploadResponse, User } from "../types";
+import { AuthResponse, AvailabilityResponse, BoardListItem, CommentActivityItem, CursorResponse, LoginRequest, SignUpRequest, UploadResponse, User } from "../types";
 import instance from "./axios";
 
 // 회원가입
@@ -8,6 +8,12 @@ export const signup = async (userData: SignUpRequest): Promise<User> => {
     return response.data;
 };
 
+// 아이디/이메일/닉네임 사용 가능 여부 (입력한 항목만 확인)
+export const checkAvailability = async (fields: { userId?: string; email?: string; nickname?: string }): Promise<AvailabilityResponse> => {
+    const response = await instance.get<AvailabilityResponse>('/auth/availability', { params: fields });
+    return response.data;
+};
+
 // 로그인
 export const login = async (credentials: LoginRequest): Promise<AuthResponse> => {
     const response = await instance.post<AuthResponse>('/auth/login', credentials);
@@ -20,6 +26,18 @@ export const getMyProfile = async (): Promise<User> => {
     return response.data;
 };
 
+// 내가 쓴 게시글 (커서)
+export const getMyBoards = async (cursor: string | null = null, size: number = 10): Promise<CursorResponse<BoardListItem>> => {
+    const response = await instance.get<CursorResponse<BoardListItem>>(`/auth/me/boards?after=${encodeURIComponent(cursor ?? "")}&size=${size}`);
+    return response.data;
+};
+
+// 내가 쓴 댓글 (커서)
+export const getMyComments = async (cursor: string | null = null, size: number = 20): Promise<CursorResponse<CommentActivityItem>> => {
+    const response = await instance.get<CursorResponse<CommentActivityItem>>(`/auth/me/comments?after=${encodeURIComponent(cursor ?? "")}&size=${size}`);
+    return response.data;
+};
+
 // 프로필 수정
 export const updateProfile = async (userData: Partial<User>): Promise<User> => {
     const response = await instance.put<User>('/auth/me', userData);
@@ -1,5 +1,5 @@
 // 게시판 API
-import { Board, BoardCreateRequest, BoardListItem, BoardUpdateRequest, PageResponse } from "../types";
+import { Board, BoardCreateRequest, BoardListItem, BoardUpdateRequest, CursorResponse, PageResponse } from "../types";
 import instance from "./axios";
 
 // 게시물 목록 조회
@@ -8,6 +8,12 @@ export const getBoardList = async (page: number = 0, size: number = 10): Promise
     return response.data;
 };
 
+// 게시물 목록 조회 (커서, 첫 페이지는 cursor 없이)
+export const getBoardListByCursor = async (cursor: string | null = null, size: number = 10): Promise<CursorResponse<BoardListItem>> => {
+    const response = await instance.get<CursorResponse<BoardListItem>>(`/boards?after=${encodeURIComponent(cursor ?? "")}&size=${size}`);
+    return response.data;
+};
+
 // 게시글 상세 조회
 export const getBoardDetail = async (boardId: number, incrementView: boolean = true): Promise<Board> => {
     const response = await instance.get<Board>(`/boards/${boardId}?incrementView=${incrementView}`);
@@ -38,12 +44,24 @@ export const searchBoards = async (keyword: string, page: number = 0, size: numb
     return response.data;
 };
 
+// 게시글 검색 (커서)
+export const searchBoardsByCursor = async (keyword: string, cursor: string | null = null, size: number = 10): Promise<CursorResponse<BoardListItem>> => {
+    const response = await instance.get<CursorResponse<BoardListItem>>(`/boards/search?keyword=${keyword}&after=${encodeURIComponent(cursor ?? "")}&size=${size}`);
+    return response.data;
+};
+
 // 카테고리 별 게시글 조회
 export const getBoardsByCategory = async (categoryId: number, page: number = 0, size: number = 10): Promise<PageResponse<BoardListItem>> => {
     const response = await instance.get<PageResponse<BoardListItem>>(`/boards/category/${categoryId}?page=${page}&size=${size}`);
     return response.data;
 };
 
+// 카테고리 별 게시글 조회 (커서)
+export const getBoardsByCategoryByCursor = async (categoryId: number, cursor: string | null = null, size: number = 10): Promise<CursorResponse<BoardListItem>> => {
+    const response = await instance.get<CursorResponse<BoardListItem>>(`/boards/category/${categoryId}?after=${encodeURIComponent(cursor ?? "")}&size=${size}`);
+    return response.data;
+};
+
 // 좋아요 토글
 export const toggleLike = async (boardId: number): Promise<boolean> => {
     const response = await instance.post<boolean>(`/boards/${boardId}/like`);
@@ -1,5 +1,5 @@
 // 댓글 API
-import { Comment, CommentCreateRequest, CommentUpdateRequest } from "../types";
+import { Comment, CommentCreateRequest, CommentCursorResponse, CommentUpdateRequest } from "../types";
 import instance from "./axios";
 
 // 댓글 목록 조회
@@ -8,6 +8,12 @@ export const getComments = async (boardId: number): Promise<Comment[]> => {
     return response.data;
 };
 
+// 댓글 목록 조회 (커서)
+export const getCommentsByCursor = async (boardId: number, cursor: string | null = null, size: number = 20, order: "oldest" | "newest" = "oldest"): Promise<CommentCursorResponse> => {
+    const response = await instance.get<CommentCursorResponse>(`/boards/${boardId}/comments?after=${encodeURIComponent(cursor ?? "")}&size=${size}&order=${order}`);
+    return response.data;
+};
+
 // 댓글 작성
 export const createComment = async (boardId: number, commetData: CommentCreateRequest): Promise<Comment> => {
     const response = await instance.post<Comment>(`/boards/${boardId}/comments`, commetData);
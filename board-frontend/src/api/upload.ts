@@ -1,5 +1,5 @@
 // 업로드 API
-import { UploadResponse } from "../types";
+import { BatchUploadResult, UploadResponse } from "../types";
 import instance from "./axios";
 
 // 이미지 업로드(단일)
@@ -17,13 +17,13 @@ export const uploadImage = async (file: File): Promise<UploadResponse> => {
 };
 
 // 이미지 업로드(다중)
-export const uploadImages = async (files: File[]): Promise<UploadResponse[]> => {
+export const uploadImages = async (files: File[]): Promise<BatchUploadResult[]> => {
     const formData = new FormData();
     files.forEach((file) => {
         formData.append('file', file);
     });
 
-    const response = await instance.post<UploadResponse[]>('/upload/images', formData, {
+    const response = await instance.post<BatchUploadResult[]>('/upload/images', formData, {
         headers: {
             "Content-Type": 'multipart/form-data',
         }
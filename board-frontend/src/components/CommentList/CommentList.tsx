@@ -100,7 +100,7 @@ const CommentList = ({ comments, currentUser, onUpdate, onDelete }: CommentListP
                                 {comment.images.map(image => (
                                     <img
                                         key={image.id}
-                                        src={getImageUrl(image.imageUrl) || ''}
+                                        src={getImageUrl(image.displayUrl) || ''}
                                         alt={image.originalFileName || '이미지'}
                                     />
                                 ))}
@@ -233,7 +233,7 @@ const BoardDetail = () => {
                         {board.images.map(image => (
                             <img
                                 key={image.id}
-                                src={getImageUrl(image.imageUrl) || ''}
+                                src={getImageUrl(image.displayUrl) || ''}
                                 alt={image.originalFileName || '이미지'}
                             />
                         ))}
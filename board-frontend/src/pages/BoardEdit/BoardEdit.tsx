@@ -101,7 +101,11 @@ const BoardEdit = () => {
             // 새로 추가된 이미지가 있으면 업로드
             if (selectedFiles.length > 0) {
                 const uploadResults = await uploadImages(selectedFiles);
-                newImageUrl = uploadResults.map(result => result.imageUrl);
+                const failed = uploadResults.filter(result => !result.imageUrl);
+                if (failed.length > 0) {
+                    alert(failed.map(result => `${result.originalFileName}: ${result.error}`).join('\n'));
+                }
+                newImageUrl = uploadResults.flatMap(result => result.imageUrl ? [result.imageUrl] : []);
             }
 
             // 기존 이미지 + 새 이미지 합치기
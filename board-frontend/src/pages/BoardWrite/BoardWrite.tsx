@@ -66,7 +66,11 @@ const BoardWrite = () => {
 
             if (selectedFiles.length > 0) {
                 const uploadData = await uploadImages(selectedFiles);
-                imageUrls = uploadData.map(img => img.imageUrl);
+                const failed = uploadData.filter(img => !img.imageUrl);
+                if (failed.length > 0) {
+                    alert(failed.map(img => `${img.originalFileName}: ${img.error}`).join('\n'));
+                }
+                imageUrls = uploadData.flatMap(img => img.imageUrl ? [img.imageUrl] : []);
             }
 
             const boardData: BoardCreateRequest = {
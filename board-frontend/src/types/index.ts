@@ -4,6 +4,7 @@ export interface User {
     nickname: string;
     email: string;
     profileImageUrl: string;
+    profileThumbnailUrl: string | null;
     role: string;
     createdAt: string;
 }
@@ -18,7 +19,8 @@ export interface Category {
 
 export interface ImageInfo {
     id: number;
-    imageUrl: string;
+    imageUrl: string;       // 원본 (수정 요청에 사용)
+    displayUrl: string;     // 화면 표시용 (줄인 이미지가 있으면 그 주소)
     originalFileName: string | null;
     orderIndex: number;
 }
@@ -32,6 +34,7 @@ export interface Board {
     authorProfileImageUrl: string | null;
     viewCount: number;
     likeCount: number;
+    uniqueViewerCount: number;
     isLiked: boolean;
     images: ImageInfo[];
     commentCount: number;
@@ -47,6 +50,7 @@ export interface BoardListItem {
     viewCount: number;
     likeCount: number;
     commentCount: number;
+    isLiked: boolean;
     thumbnailUrl: string | null;
     categoryName: string | null;
     createdAt: string;
@@ -73,6 +77,26 @@ export interface PageResponse<T> {
     empty: boolean;
 }
 
+// 커서 페이징 응답 (무한 스크롤용)
+export interface CursorResponse<T> {
+    content: T[];
+    nextCursor: string | null;
+    hasNext: boolean;
+}
+
+export interface CommentActivityItem {
+    id: number;
+    content: string;
+    boardId: number;
+    boardTitle: string;
+    createdAt: string;
+    updatedAt: string;
+}
+
+export interface CommentCursorResponse extends CursorResponse<Comment> {
+    totalCount: number;
+}
+
 export interface AuthResponse {
     token: string;
     user: User;
@@ -83,6 +107,13 @@ export interface LoginRequest {
     password: string;
 }
 
+// 아이디/이메일/닉네임 사용 가능 여부 (확인하지 않은 항목은 null)
+export interface AvailabilityResponse {
+    userId: boolean | null;
+    email: boolean | null;
+    nickname: boolean | null;
+}
+
 export interface SignUpRequest {
     userId: string;
     password: string;
@@ -117,4 +148,11 @@ export interface CommentUpdateRequest {
 export interface UploadResponse {
     imageUrl: string;
     originalFileName: string;
+}
+
+// 다중 업로드 결과 (파일마다 imageUrl(성공) 또는 error(실패) 중 하나가 옴)
+export interface BatchUploadResult {
+    imageUrl?: string;
+    originalFileName: string;
+    error?: string;
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.game.board_backend.controller;
+
+import com.game.board_backend.cache.HotImageCache;
+import com.game.board_backend.config.FileUploadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 썸네일 크기(20KB) 이미지 한 장 서빙 비용 비교 (초당 요청 수)
+// 이전: 기본 리소스 핸들러 (캐시 헤더가 없어서 목록을 볼 때마다 브라우저가 If-Modified-Since로 다시 확인)
+// 이후: ImageController (immutable이라 다시 확인 요청이 없고, 본문은 HotImageCache에서)
+// ./gradlew jmh 로 실행
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageServingBenchmark {
+
+    private static final int THUMBNAIL_BYTES = 20 * 1024;
+    private static final String FILE_NAME = "0".repeat(64) + ".jpg";
+
+    private Path uploadDir;
+    private long lastModified;
+    private ResourceHttpRequestHandler resourceHandler;
+    private ImageController imageController;
+
+    @Setup
+    public void setUp() throws Exception {
+        uploadDir = Files.createTempDirectory("image-serving-benchmark");
+        Path images = Files.createDirectories(uploadDir.resolve("images"));
+
+        byte[] content = new byte[THUMBNAIL_BYTES];
+        ThreadLocalRandom.current().nextBytes(content);
+        content[0] = (byte) 0xFF;
+        content[1] = (byte) 0xD8;
+        content[2] = (byte) 0xFF;
+        Path file = Files.write(images.resolve(FILE_NAME), content);
+        lastModified = Files.getLastModifiedTime(file).toMillis();
+
+        resourceHandler = new ResourceHttpRequestHandler();
+        resourceHandler.setLocations(List.of(new FileSystemResource(images.toString() + "/")));
+        resourceHandler.setServletContext(new MockServletContext());
+        resourceHandler.afterPropertiesSet();
+
+        FileUploadProperties properties = new FileUploadProperties();
+        properties.setUploadDir(uploadDir.toString());
+        imageController = new ImageController(properties, new HotImageCache(new SimpleMeterRegistry(), 16L * 1024 * 1024, 64L * 1024));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(uploadDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    // 이전 방식: 기본 리소스 핸들러로 전체 전송
+    @Benchmark
+    public MockHttpServletResponse resourceHandler() throws Exception {
+        MockHttpServletRequest request = resourceRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        resourceHandler.handleRequest(request, response);
+        return response;
+    }
+
+    // 이전 방식: 목록을 다시 볼 때마다 나가던 확인 요청 (304)
+    @Benchmark
+    public MockHttpServletResponse resourceHandlerRevalidate() throws Exception {
+        MockHttpServletRequest request = resourceRequest();
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        resourceHandler.handleRequest(request, response);
+        return response;
+    }
+
+    // 새 방식: 캐시에서 전체 전송 (immutable이라 확인 요청은 없음)
+    @Benchmark
+    public MockHttpServletResponse imageController() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILE_NAME);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        imageController.image(FILE_NAME, request, response);
+        return response;
+    }
+
+    private MockHttpServletRequest resourceRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILE_NAME);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, FILE_NAME);
+        return request;
+    }
+}
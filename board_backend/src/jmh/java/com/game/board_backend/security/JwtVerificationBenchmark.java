@@ -0,0 +1,52 @@
+package com.game.board_backend.security;
+
+import com.game.board_backend.model.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청 한번당 토큰 확인 비용 비교
+// ./gradlew jmh 로 실행
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "HLThRa9Z0iGM8KJ59Ru7z8ViH3XrgqgvqhGm8rVcwOB";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 86400000L);
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(), 10000, 300000);
+        token = jwtTokenProvider.createToken(1L, "benchmark", UserRole.USER, 0L);
+
+        // 캐시 적중 경우를 재기 위해 미리 한번 검증
+        verifiedTokenCache.verify(token);
+    }
+
+    // 기존 방식: 유효성 검증 후 userId를 꺼내려고 한번 더 파싱
+    @Benchmark
+    public Long validateThenParse() {
+        return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getUserIdFromToken(token) : null;
+    }
+
+    // 한번만 파싱
+    @Benchmark
+    public VerifiedToken parseOnce() {
+        return jwtTokenProvider.verify(token);
+    }
+
+    // 같은 토큰으로 다시 요청한 경우 (캐시 적중)
+    @Benchmark
+    public VerifiedToken cachedVerify() {
+        return verifiedTokenCache.verify(token);
+    }
+}
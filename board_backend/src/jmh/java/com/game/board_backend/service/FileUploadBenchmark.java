@@ -0,0 +1,107 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.config.FileUploadProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 10MB 업로드 저장 비용 비교 (처리량 + 요청당 힙 할당량)
+// ./gradlew jmh 로 실행, 힙 할당량은 gc.alloc.rate.norm (요청 하나당 바이트) 확인
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileUploadBenchmark {
+
+    private static final int UPLOAD_BYTES = 10 * 1024 * 1024;
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 0};
+
+    private Path uploadDir;
+    private FileStorageService fileStorageService;
+
+    @Setup
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("upload-benchmark");
+
+        FileUploadProperties properties = new FileUploadProperties();
+        properties.setUploadDir(uploadDir.toString());
+        properties.setMaxSize(UPLOAD_BYTES);
+        fileStorageService = new FileStorageService(properties, null, null);
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() throws IOException {
+        try (Stream<Path> files = Files.walk(uploadDir)) {
+            files.filter(Files::isRegularFile).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(uploadDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    // 이전 방식: 업로드 전체를 메모리에 받은 뒤 (메모리 multipart 파트) Files.copy로 다시 씀
+    @Benchmark
+    public Path bufferThenCopy() throws IOException {
+        byte[] buffered = new UploadStream(UPLOAD_BYTES).readAllBytes();
+        Path target = uploadDir.resolve(UUID.randomUUID() + ".png");
+        Files.copy(new ByteArrayInputStream(buffered), target, StandardCopyOption.REPLACE_EXISTING);
+        return target;
+    }
+
+    // 새 방식: 요청 본문을 채널로 바로 저장 위치에 씀
+    @Benchmark
+    public String streamToChannel() {
+        return fileStorageService.storeStream(new UploadStream(UPLOAD_BYTES), UPLOAD_BYTES, "images");
+    }
+
+    // 요청 본문 흉내 (PNG 시그니처 + 채움 바이트, 내용 전체를 메모리에 들고 있지 않음)
+    private static class UploadStream extends InputStream {
+        private final long length;
+        private long position;
+
+        private UploadStream(long length) {
+            this.length = length;
+        }
+
+        @Override
+        public int read() {
+            if (position >= length) {
+                return -1;
+            }
+            return byteAt(position++);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int count) {
+            if (position >= length) {
+                return -1;
+            }
+
+            int n = (int) Math.min(count, length - position);
+            for (int i = 0; i < n; i++) {
+                buffer[offset + i] = (byte) byteAt(position + i);
+            }
+            position += n;
+            return n;
+        }
+
+        private static int byteAt(long index) {
+            return index < PNG_SIGNATURE.length ? PNG_SIGNATURE[(int) index] & 0xFF : (int) (index & 0x7F);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.config.FileUploadProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 이미지 10장 다중 업로드 한 요청의 저장 시간 비교 (순차 저장 vs 동시 저장)
+// ./gradlew jmh 로 실행
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelUploadBenchmark {
+
+    private static final int FILE_COUNT = 10;
+    private static final int FILE_BYTES = 1024 * 1024;
+
+    @Param({"4"})
+    private int concurrency;
+
+    private Path uploadDir;
+    private FileStorageService fileStorageService;
+    private ParallelFileStorage parallelFileStorage;
+    private List<MultipartFile> files;
+
+    @Setup
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("parallel-upload-benchmark");
+
+        FileUploadProperties properties = new FileUploadProperties();
+        properties.setUploadDir(uploadDir.toString());
+        properties.setMaxSize(FILE_BYTES);
+        properties.setUploadThreads(concurrency);
+        properties.setMaxConcurrentPerRequest(concurrency);
+        fileStorageService = new FileStorageService(properties, null, null);
+        parallelFileStorage = new ParallelFileStorage(fileStorageService, properties);
+
+        byte[] png = new byte[FILE_BYTES];
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        System.arraycopy(signature, 0, png, 0, signature.length);
+
+        files = new ArrayList<>();
+        for (int i = 0; i < FILE_COUNT; i++) {
+            files.add(new BytesMultipartFile("image-" + i + ".png", png));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() throws IOException {
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            paths.filter(Files::isRegularFile).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        parallelFileStorage.shutdown();
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // 이전 방식: for 문으로 한 장씩 저장
+    @Benchmark
+    public List<String> sequentialLoop() {
+        List<String> urls = new ArrayList<>(FILE_COUNT);
+        for (MultipartFile file : files) {
+            urls.add(fileStorageService.storeFile(file, "images"));
+        }
+        return urls;
+    }
+
+    // 새 방식: 제한된 풀에서 동시에 저장
+    @Benchmark
+    public List<ParallelFileStorage.StoreResult> parallelBatch() {
+        return parallelFileStorage.storeFiles(files, "images");
+    }
+
+    // 메모리에 받아둔 multipart 파트 흉내
+    private static class BytesMultipartFile implements MultipartFile {
+        private final String originalFilename;
+        private final byte[] content;
+
+        private BytesMultipartFile(String originalFilename, byte[] content) {
+            this.originalFilename = originalFilename;
+            this.content = content;
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/png";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.write(dest.toPath(), content);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.game.board_backend.cache;
+
+import com.game.board_backend.dto.BoardDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+// 게시글 상세 캐시 (유저와 상관없는 부분만 저장, 좋아요 여부는 LikedBoardCache에서)
+// 전체 메모리 한도(글 크기 기준)와 TTL을 두고, 한도를 넘으면 W-TinyLFU 방식으로 자주 안 읽히는 글부터 제거
+// 게시글/댓글/좋아요/작성자 프로필이 바뀌면 커밋 후 해당 게시글만 무효화
+@Component
+public class BoardDetailCache {
+
+    private final Cache<Long, BoardDto.Detail> details;
+
+    public BoardDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${board.detail-cache.max-bytes:33554432}") long maxBytes,
+            @Value("${board.detail-cache.ttl:60000}") long ttlMillis
+    ) {
+        this.details = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long boardId, BoardDto.Detail detail) -> detail.estimatedBytes())
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+
+        // 적중/미스/제거 수 (cache.gets, cache.evictions 등, cache=boardDetail 태그)
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "boardDetail");
+    }
+
+    /**
+     * 캐시에서 조회, 없으면 loader로 읽어서 저장
+     * 같은 게시글을 동시에 읽으면 DB 조회는 한번만 하고, 로딩 중에 무효화되면 로딩 결과는 버려짐
+     * loader에서 난 예외(없는 게시글 등)는 그대로 던지고 캐시에는 안 넣음
+     */
+    public BoardDto.Detail get(Long boardId, Function<Long, BoardDto.Detail> loader) {
+        return details.get(boardId, loader);
+    }
+
+    // 캐시에 있을 때만 (없으면 null, DB 조회 안 함)
+    public BoardDto.Detail getIfPresent(Long boardId) {
+        return details.getIfPresent(boardId);
+    }
+
+    public void invalidate(Long boardId) {
+        details.invalidate(boardId);
+    }
+
+    public void invalidate(Collection<Long> boardIds) {
+        details.invalidateAll(boardIds);
+    }
+
+    // 작성자 닉네임, 프로필 이미지가 바뀐 경우 (캐시에 있는 그 유저의 글만 제거)
+    public void invalidateAuthor(Long userId) {
+        details.asMap().values().removeIf(detail -> detail.getAuthorId().equals(userId));
+    }
+
+    // 카테고리 이름 변경처럼 여러 글에 걸친 변경
+    public void invalidateAll() {
+        details.invalidateAll();
+    }
+}
@@ -0,0 +1,206 @@
+package com.game.board_backend.cache;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 게시글 ID 집합을 압축해서 저장하는 비트맵 (Roaring 비트맵 방식)
+// ID 상위 비트로 묶음을 나누고, 묶음마다 원소가 적으면 정렬된 short 배열, 많으면 비트셋으로 저장
+// 동기화는 사용하는 쪽(LikedBoardCache)에서 처리
+public class BoardIdBitmap {
+
+    // 배열 -> 비트셋 전환 기준 (4096개 * 2바이트 = 비트셋 크기 8KB와 같아지는 지점)
+    private static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITSET_WORDS = 1 << 10;    // 65536비트
+    private static final int ENTRY_OVERHEAD_BYTES = 48;
+
+    private final Map<Long, Container> containers = new HashMap<>();
+
+    public static BoardIdBitmap of(Iterable<Long> boardIds) {
+        BoardIdBitmap bitmap = new BoardIdBitmap();
+        for (Long boardId : boardIds) {
+            bitmap.add(boardId);
+        }
+
+        return bitmap;
+    }
+
+    public void add(long boardId) {
+        long key = boardId >>> 16;
+        Container container = containers.computeIfAbsent(key, k -> new ArrayContainer());
+        containers.put(key, container.add((char) boardId));
+    }
+
+    public void remove(long boardId) {
+        long key = boardId >>> 16;
+        Container container = containers.get(key);
+        if (container == null) {
+            return;
+        }
+
+        Container updated = container.remove((char) boardId);
+        if (updated.cardinality() == 0) {
+            containers.remove(key);
+        } else {
+            containers.put(key, updated);
+        }
+    }
+
+    public boolean contains(long boardId) {
+        Container container = containers.get(boardId >>> 16);
+        return container != null && container.contains((char) boardId);
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (Container container : containers.values()) {
+            total += container.cardinality();
+        }
+
+        return total;
+    }
+
+    // 대략적인 메모리 사용량 (캐시 용량 계산용)
+    public long sizeInBytes() {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        for (Container container : containers.values()) {
+            bytes += ENTRY_OVERHEAD_BYTES + container.sizeInBytes();
+        }
+
+        return bytes;
+    }
+
+    private interface Container {
+        // 변경 후 형태가 바뀔 수 있어서 자기 자신 또는 새 컨테이너 반환
+        Container add(char low);
+
+        Container remove(char low);
+
+        boolean contains(char low);
+
+        int cardinality();
+
+        long sizeInBytes();
+    }
+
+    // 원소가 적을 때: 정렬된 char(16비트) 배열
+    private static class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                return this;
+            }
+
+            if (size >= ARRAY_MAX_SIZE) {
+                return toBitset().add(low);
+            }
+
+            int insertAt = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_MAX_SIZE));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = low;
+            size++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+
+            return this;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16 + 2L * values.length;
+        }
+
+        private BitsetContainer toBitset() {
+            BitsetContainer bitset = new BitsetContainer();
+            for (int i = 0; i < size; i++) {
+                bitset.add(values[i]);
+            }
+
+            return bitset;
+        }
+    }
+
+    // 원소가 많을 때: 65536비트 비트셋
+    private static class BitsetContainer implements Container {
+        private final long[] words = new long[BITSET_WORDS];
+        private int cardinality;
+
+        @Override
+        public Container add(char low) {
+            long mask = 1L << low;
+            int word = low >>> 6;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                cardinality++;
+            }
+
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            long mask = 1L << low;
+            int word = low >>> 6;
+            if ((words[word] & mask) != 0) {
+                words[word] &= ~mask;
+                cardinality--;
+            }
+
+            return cardinality <= ARRAY_MAX_SIZE ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16 + 8L * BITSET_WORDS;
+        }
+
+        private Container toArray() {
+            Container array = new ArrayContainer();
+            for (int word = 0; word < words.length; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    int bit = Long.numberOfTrailingZeros(bits);
+                    array = array.add((char) (word * 64 + bit));
+                    bits &= bits - 1;
+                }
+            }
+
+            return array;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.game.board_backend.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시글 목록 버전 (목록 조회의 약한 ETag용)
+// 목록에 보이는 값이 바뀌는 변경(작성/수정/삭제, 좋아요, 댓글 수, 썸네일, 작성자/카테고리 이름)이 커밋되면 증가
+// 버전이 그대로면 DB 조회 없이 304 응답 가능
+// 조회수는 포함하지 않음 (조회가 있을 때마다 바뀌면 304가 거의 안 나와서, 다른 변경이 있을 때까지 늦게 보일 수 있는 약한 ETag 사용)
+@Component
+public class BoardListVersion {
+
+    // 재시작 전에 받은 ETag와 겹치지 않게 시작 시각부터
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    public void bump() {
+        version.incrementAndGet();
+    }
+
+    // 현재 유저 기준 약한 ETag (좋아요 여부가 유저마다 다름)
+    public String etag(Long currentUserId) {
+        return ETags.weak(current() + "-" + (currentUserId != null ? currentUserId : 0));
+    }
+}
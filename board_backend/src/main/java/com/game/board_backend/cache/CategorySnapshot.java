@@ -0,0 +1,9 @@
+package com.game.board_backend.cache;
+
+import com.game.board_backend.dto.CategoryDto;
+
+import java.util.List;
+
+// 카테고리 목록 스냅샷 (만든 뒤로는 바뀌지 않음)
+// json: GET /api/categories 응답 본문을 미리 직렬화한 바이트, etag: 본문 해시로 만든 강한 ETag
+public record CategorySnapshot(List<CategoryDto.Response> categories, byte[] json, String etag) { }
@@ -0,0 +1,54 @@
+package com.game.board_backend.cache;
+
+import com.game.board_backend.dto.CategoryDto;
+import com.game.board_backend.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+// 카테고리 목록 스냅샷 보관
+// 카테고리는 관리자만 가끔 바꾸므로 목록 조회는 DB 대신 미리 만든 스냅샷으로 응답
+// CategoryService에서 생성/수정/삭제 커밋 후 refresh()로 통째로 교체
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategorySnapshotCache {
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile CategorySnapshot snapshot;
+
+    // 서버 시작 시 (초기 카테고리 생성 후) 미리 만들어 둠
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    public CategorySnapshot current() {
+        CategorySnapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * DB에서 다시 읽어서 스냅샷 교체
+     * 동시에 여러 번 호출되면 나중에 실행된 쪽이 최신 커밋까지 읽으므로 순서대로 실행
+     */
+    public synchronized CategorySnapshot refresh() {
+        List<CategoryDto.Response> categories = categoryRepository.findAllByOrderByDisplayOrderAsc().stream()
+                .map(CategoryDto.Response::new)
+                .toList();
+
+        byte[] json = objectMapper.writeValueAsBytes(categories);
+        CategorySnapshot refreshed = new CategorySnapshot(categories, json, ETags.strong(json));
+        snapshot = refreshed;
+
+        log.debug("카테고리 스냅샷 갱신: {}개, ETag {}", categories.size(), refreshed.etag());
+        return refreshed;
+    }
+}
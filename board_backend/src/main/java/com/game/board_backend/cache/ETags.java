@@ -0,0 +1,38 @@
+package com.game.board_backend.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+// ETag 헤더 값 생성
+public final class ETags {
+
+    private ETags() {
+    }
+
+    // 강한 ETag: 내용 SHA-256 앞 16바이트 (내용이 바이트 단위로 같을 때만 같음)
+    public static String strong(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public static String strong(String content) {
+        return strong(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 약한 ETag: 의미상 같은 응답이면 같음 (조회수처럼 조금 늦게 반영되는 값은 무시)
+    public static String weak(String version) {
+        return "W/\"" + version + "\"";
+    }
+
+    // 약한 ETag를 값 해시로 (닉네임처럼 따옴표가 들어갈 수 있는 값을 모아서 만들 때)
+    public static String weakDigest(String content) {
+        return "W/" + strong(content);
+    }
+}
@@ -0,0 +1,61 @@
+package com.game.board_backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 자주 요청되는 작은 이미지(썸네일, 프로필) 내용 캐시
+// 저장된 파일은 이름이 바뀌지 않고 내용도 안 바뀌어서 전체 메모리 한도로 관리 (W-TinyLFU)
+// 파일이 삭제되면 삭제한 쪽에서 invalidate (삭제된 이미지를 캐시에서 계속 내보내지 않도록)
+// 큰 파일은 캐시하지 않고 파일에서 바로 전송
+@Component
+public class HotImageCache {
+
+    private final Cache<String, byte[]> contents;
+    private final long maxFileBytes;
+
+    public HotImageCache(
+            MeterRegistry meterRegistry,
+            @Value("${image.hot-cache.max-bytes:16777216}") long maxBytes,
+            @Value("${image.hot-cache.max-file-bytes:65536}") long maxFileBytes
+    ) {
+        this.maxFileBytes = maxFileBytes;
+        this.contents = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String url, byte[] content) -> content.length)
+                .recordStats()
+                .build();
+
+        // 적중/미스/제거 수 (cache.gets, cache.evictions 등, cache=hotImage 태그)
+        CaffeineCacheMetrics.monitor(meterRegistry, contents, "hotImage");
+    }
+
+    // 캐시할 크기인지
+    public boolean accepts(long size) {
+        return size <= maxFileBytes;
+    }
+
+    // 파일 삭제 시 호출
+    public void invalidate(String url) {
+        contents.invalidate(url);
+    }
+
+    // 캐시에서 조회, 없으면 파일을 읽어서 저장 (같은 파일을 동시에 요청하면 한번만 읽음)
+    public byte[] get(String url, Path file) {
+        return contents.get(url, key -> {
+            try {
+                return Files.readAllBytes(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package com.game.board_backend.cache;
+
+import com.game.board_backend.repository.BoardLikeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 유저별 좋아요한 게시글 ID 비트맵 캐시
+// 게시글 상세/목록의 isLiked를 DB 조회 없이 판단하기 위해 사용
+// 처음 필요할 때 DB에서 읽어오고, 전체 메모리 한도를 넘으면 가장 오래 안 쓴 유저부터 제거(LRU)
+@Component
+public class LikedBoardCache {
+
+    // 로딩 중에 좋아요가 바뀌었는지 확인하기 위한 유저별 변경 번호 (유저 ID로 나눠서 공유)
+    private static final int EPOCH_STRIPES = 64;
+
+    private final BoardLikeRepository boardLikeRepository;
+    private final long maxBytes;
+
+    private final LinkedHashMap<Long, BoardIdBitmap> bitmaps = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLongArray epochs = new AtomicLongArray(EPOCH_STRIPES);
+    private long residentBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public LikedBoardCache(
+            BoardLikeRepository boardLikeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${board.liked-cache.max-bytes:8388608}") long maxBytes
+    ) {
+        this.boardLikeRepository = boardLikeRepository;
+        this.maxBytes = maxBytes;
+
+        this.hits = Counter.builder("board.liked.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("board.liked.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("board.liked.cache.evictions").register(meterRegistry);
+        Gauge.builder("board.liked.cache.resident.bytes", this, LikedBoardCache::residentBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("board.liked.cache.resident.users", this, LikedBoardCache::residentUsers)
+                .register(meterRegistry);
+        Gauge.builder("board.liked.cache.hit.ratio", this, LikedBoardCache::hitRatio)
+                .register(meterRegistry);
+    }
+
+    // 특정 유저가 특정 게시글에 좋아요 했는지 (비로그인이면 false)
+    public boolean isLiked(Long userId, Long boardId) {
+        return userId != null && withBitmap(userId, bitmap -> bitmap.contains(boardId));
+    }
+
+    // 목록 조회용: 주어진 게시글 중 좋아요 한 게시글 ID
+    public Set<Long> likedAmong(Long userId, Collection<Long> boardIds) {
+        if (userId == null || boardIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return withBitmap(userId, bitmap -> boardIds.stream()
+                .filter(bitmap::contains)
+                .collect(Collectors.toSet()));
+    }
+
+    // 좋아요 토글 커밋 후 호출 (캐시에 있는 유저만 반영, 없으면 다음 로딩 때 DB에서 읽음)
+    public void update(Long userId, Long boardId, boolean liked) {
+        epochs.incrementAndGet(stripe(userId));
+
+        synchronized (this) {
+            BoardIdBitmap bitmap = bitmaps.get(userId);
+            if (bitmap == null) {
+                return;
+            }
+
+            residentBytes -= bitmap.sizeInBytes();
+            if (liked) {
+                bitmap.add(boardId);
+            } else {
+                bitmap.remove(boardId);
+            }
+            residentBytes += bitmap.sizeInBytes();
+            evictIfNeeded();
+        }
+    }
+
+    // 회원 탈퇴 등으로 유저의 좋아요가 한꺼번에 바뀐 경우
+    public void evict(Long userId) {
+        epochs.incrementAndGet(stripe(userId));
+
+        synchronized (this) {
+            BoardIdBitmap removed = bitmaps.remove(userId);
+            if (removed != null) {
+                residentBytes -= removed.sizeInBytes();
+            }
+        }
+    }
+
+    // 비트맵은 락 안에서만 읽음 (update()가 같은 비트맵을 수정하므로)
+    private <T> T withBitmap(Long userId, Function<BoardIdBitmap, T> reader) {
+        synchronized (this) {
+            BoardIdBitmap bitmap = bitmaps.get(userId);
+            if (bitmap != null) {
+                hits.increment();
+                return reader.apply(bitmap);
+            }
+        }
+
+        misses.increment();
+
+        // DB 조회는 락 밖에서, 조회 중에 좋아요가 바뀌었으면 결과만 쓰고 캐시에는 안 넣음
+        long epoch = epochs.get(stripe(userId));
+        BoardIdBitmap loaded = BoardIdBitmap.of(boardLikeRepository.findBoardIdsByUserId(userId));
+        T result = reader.apply(loaded);
+
+        synchronized (this) {
+            if (epochs.get(stripe(userId)) == epoch && !bitmaps.containsKey(userId)) {
+                bitmaps.put(userId, loaded);
+                residentBytes += loaded.sizeInBytes();
+                evictIfNeeded();
+            }
+        }
+
+        return result;
+    }
+
+    // 메모리 한도를 넘으면 가장 오래 안 쓴 유저부터 제거 (방금 넣은 유저는 남김)
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, BoardIdBitmap>> iterator = bitmaps.entrySet().iterator();
+        while (residentBytes > maxBytes && bitmaps.size() > 1 && iterator.hasNext()) {
+            residentBytes -= iterator.next().getValue().sizeInBytes();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) EPOCH_STRIPES);
+    }
+
+    private synchronized double residentBytes() {
+        return residentBytes;
+    }
+
+    private synchronized double residentUsers() {
+        return bitmaps.size();
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+}
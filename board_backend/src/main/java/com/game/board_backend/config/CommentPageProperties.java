@@ -0,0 +1,16 @@
+package com.game.board_backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 댓글 커서 페이징 설정
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "board.comments")
+public class CommentPageProperties {
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+}
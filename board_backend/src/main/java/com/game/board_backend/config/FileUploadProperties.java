@@ -12,4 +12,10 @@ import org.springframework.stereotype.Component;
 public class FileUploadProperties {
     private String uploadDir;
     private long maxSize;
+    // 다중 업로드 저장용 스레드 수 (서버 전체)
+    private int uploadThreads = 4;
+    // 요청 하나가 동시에 저장할 수 있는 최대 파일 수
+    private int maxConcurrentPerRequest = 4;
+    // 내용(SHA-256) 기준 파일명으로 저장해서 같은 파일은 한번만 보관
+    private boolean contentAddressed = false;
 }
@@ -2,6 +2,8 @@ package com.game.board_backend.config;
 
 import com.game.board_backend.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,9 +27,10 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     // BCrypt 암호화 방식 사용
+    // 강도(cost)가 1 오를 때마다 해싱 시간이 2배 (password.hash 지표의 시간을 보고 조정)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     // CORS설정
@@ -73,6 +76,11 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // URL 별 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 관리자 전용 (권한은 토큰에 들어있어서 DB 조회 없음, 아래 permitAll보다 먼저 검사)
+                        .requestMatchers(HttpMethod.POST, "/api/categories").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.PUT, "/api/categories/{categoryId}").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.DELETE, "/api/categories/{categoryId}").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.PUT, "/api/auth/users/{userId}/role").hasRole("ADMIN")
                         // 인증 없이 접근 가능한 곳
                         .requestMatchers(
                                 "/api/auth/**",
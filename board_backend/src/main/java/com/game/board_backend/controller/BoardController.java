@@ -1,17 +1,24 @@
 package com.game.board_backend.controller;
 
 import com.game.board_backend.dto.BoardDto;
+import com.game.board_backend.dto.BoardVersion;
+import com.game.board_backend.dto.CursorPage;
 import com.game.board_backend.service.BoardService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -39,16 +46,32 @@ public class BoardController {
      * 게시글 상세 조회
      * GET /api/boards/{boardId}
      * 인증 X (로그인 안해도 조회 가능)
+     * If-None-Match가 현재 버전과 같으면 본문 없이 304 (조회수는 증가)
      */
     @GetMapping("/{boardId}")
     public ResponseEntity<BoardDto.Response> getBoard(
             @PathVariable Long boardId,
             @RequestParam(defaultValue = "true") boolean incrementView,
-            Authentication authentication) {
-        Long currentUserId = authentication != null ? (Long) authentication.getPrincipal() : null;
-        BoardDto.Response response = boardService.getBoard(boardId, currentUserId, incrementView);
+            Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse servletResponse,
+            WebRequest webRequest) {
+        Long currentUserId = currentUserId(authentication);
+        String viewerKey = viewerKey(currentUserId, request);
 
-        return ResponseEntity.ok(response);
+        String etag = boardService.getBoardVersion(boardId, currentUserId).etag();
+        if (notModified(webRequest, servletResponse, etag)) {
+            if (incrementView) {
+                boardService.recordView(boardId, viewerKey);
+            }
+            return null;
+        }
+
+        BoardDto.Response response = boardService.getBoard(boardId, currentUserId, viewerKey, incrementView);
+
+        return ResponseEntity.ok()
+                .eTag(BoardVersion.of(response).etag())
+                .body(response);
     }
 
     /**
@@ -58,9 +81,40 @@ public class BoardController {
     @GetMapping
     public ResponseEntity<Page<BoardDto.ListItem>> getBoardList(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
-        Page<BoardDto.ListItem> response = boardService.getBoardList(pageable);
-        return ResponseEntity.ok(response);
+            Pageable pageable,
+            Authentication authentication,
+            HttpServletResponse servletResponse,
+            WebRequest webRequest) {
+        Long currentUserId = currentUserId(authentication);
+        String etag = boardService.getListEtag(currentUserId);
+        if (notModified(webRequest, servletResponse, etag)) {
+            return null;
+        }
+
+        Page<BoardDto.ListItem> response = boardService.getBoardList(pageable, currentUserId);
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    /**
+     * 게시글 목록 조회 (커서, 무한 스크롤용)
+     * GET /api/boards?after={nextCursor}&size=10
+     * 첫 페이지는 after를 비워서 요청 (GET /api/boards?after=)
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPage<BoardDto.ListItem>> getBoardListByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication,
+            HttpServletResponse servletResponse,
+            WebRequest webRequest) {
+        Long currentUserId = currentUserId(authentication);
+        String etag = boardService.getListEtag(currentUserId);
+        if (notModified(webRequest, servletResponse, etag)) {
+            return null;
+        }
+
+        CursorPage<BoardDto.ListItem> response = boardService.getBoardListByCursor(after, size, currentUserId);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     /**
@@ -71,9 +125,40 @@ public class BoardController {
     public ResponseEntity<Page<BoardDto.ListItem>> searchBoard(
             @RequestParam String keyword,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
-        Page<BoardDto.ListItem> response = boardService.searchBoards(keyword, pageable);
-        return ResponseEntity.ok(response);
+            Pageable pageable,
+            Authentication authentication,
+            HttpServletResponse servletResponse,
+            WebRequest webRequest) {
+        Long currentUserId = currentUserId(authentication);
+        String etag = boardService.getListEtag(currentUserId);
+        if (notModified(webRequest, servletResponse, etag)) {
+            return null;
+        }
+
+        Page<BoardDto.ListItem> response = boardService.searchBoards(keyword, pageable, currentUserId);
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    /**
+     * 게시글 검색 (커서)
+     * GET /api/boards/search?keyword=검색어&after={nextCursor}&size=10
+     */
+    @GetMapping(value = "/search", params = "after")
+    public ResponseEntity<CursorPage<BoardDto.ListItem>> searchBoardByCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication,
+            HttpServletResponse servletResponse,
+            WebRequest webRequest) {
+        Long currentUserId = currentUserId(authentication);
+        String etag = boardService.getListEtag(currentUserId);
+        if (notModified(webRequest, servletResponse, etag)) {
+            return null;
+        }
+
+        CursorPage<BoardDto.ListItem> response = boardService.searchBoardsByCursor(keyword, after, size, currentUserId);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     /**
@@ -127,8 +212,62 @@ public class BoardController {
     public ResponseEntity<Page<BoardDto.ListItem>> getBoardsByCategory(
             @PathVariable Long categoryId,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable) {
-        Page<BoardDto.ListItem> response = boardService.getBoardsByCategory(categoryId, pageable);
-        return ResponseEntity.ok(response);
+            Pageable pageable,
+            Authentication authentication,
+            HttpServletResponse servletResponse,
+            WebRequest webRequest) {
+        Long currentUserId = currentUserId(authentication);
+        String etag = boardService.getListEtag(currentUserId);
+        if (notModified(webRequest, servletResponse, etag)) {
+            return null;
+        }
+
+        Page<BoardDto.ListItem> response = boardService.getBoardsByCategory(categoryId, pageable, currentUserId);
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    /**
+     * 카테고리별 조회 (커서)
+     * GET /api/boards/category/{categoryId}?after={nextCursor}&size=10
+     */
+    @GetMapping(value = "/category/{categoryId}", params = "after")
+    public ResponseEntity<CursorPage<BoardDto.ListItem>> getBoardsByCategoryByCursor(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication,
+            HttpServletResponse servletResponse,
+            WebRequest webRequest) {
+        Long currentUserId = currentUserId(authentication);
+        String etag = boardService.getListEtag(currentUserId);
+        if (notModified(webRequest, servletResponse, etag)) {
+            return null;
+        }
+
+        CursorPage<BoardDto.ListItem> response = boardService.getBoardsByCategoryByCursor(categoryId, after, size, currentUserId);
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    // 조건부 GET: 클라이언트가 가진 ETag와 같으면 true (304, 본문 생략)
+    // 좋아요 여부가 유저마다 달라서 공유 캐시에는 저장하지 않고 매번 재검증하게 함
+    private boolean notModified(WebRequest webRequest, HttpServletResponse servletResponse, String etag) {
+        servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        servletResponse.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        return webRequest.checkNotModified(etag);
+    }
+
+    // 로그인 안 했으면 null
+    private Long currentUserId(Authentication authentication) {
+        return authentication != null ? (Long) authentication.getPrincipal() : null;
+    }
+
+    // 고유 조회자 구분용 키
+    // 로그인 유저는 유저 ID, 비로그인은 IP + User-Agent (스케치에는 해시값만 반영되고 원문은 저장 안 됨)
+    private String viewerKey(Long currentUserId, HttpServletRequest request) {
+        if (currentUserId != null) {
+            return "user:" + currentUserId;
+        }
+
+        return "anon:" + request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
     }
 }
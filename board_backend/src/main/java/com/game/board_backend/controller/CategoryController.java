@@ -1,16 +1,16 @@
 package com.game.board_backend.controller;
 
+import com.game.board_backend.cache.CategorySnapshot;
 import com.game.board_backend.dto.CategoryDto;
 import com.game.board_backend.service.CategoryService;
-import com.game.board_backend.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,20 +18,13 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
-    private final UserService userService;
 
     /**
-     * 카테고리 생성(관리자만 생성 가능)
+     * 카테고리 생성(관리자만 생성 가능, SecurityConfig에서 확인)
      * POST api/categories
      */
     @PostMapping
-    public ResponseEntity<CategoryDto.Response> createCategory(
-            @Valid @RequestBody CategoryDto.Create dto,
-            Authentication authentication) {
-        Long userId = (Long) authentication.getPrincipal();
-
-        checkAdminRole(userId);
-
+    public ResponseEntity<CategoryDto.Response> createCategory(@Valid @RequestBody CategoryDto.Create dto) {
         CategoryDto.Response response = categoryService.createCategory(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -39,11 +32,21 @@ public class CategoryController {
     /**
      * 카테고리 목록 조회(모든 사용자가 이용 가능)
      * GET api/categories
+     * 미리 직렬화된 스냅샷을 그대로 내려주고, If-None-Match가 ETag와 같으면 304
      */
     @GetMapping
-    public ResponseEntity<List<CategoryDto.Response>> getAllCategories() {
-        List<CategoryDto.Response> response = categoryService.getAllCategories();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getAllCategories(WebRequest request) {
+        CategorySnapshot snapshot = categoryService.getCategorySnapshot();
+
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.etag())
+                .body(snapshot.json());
     }
 
     /**
@@ -57,43 +60,24 @@ public class CategoryController {
     }
 
     /**
-     * 카테고리 수정(관리자 전용)
+     * 카테고리 수정(관리자 전용, SecurityConfig에서 확인)
      * PUT api/categories/{categoryId}
      */
     @PutMapping("/{categoryId}")
     public ResponseEntity<CategoryDto.Response> updateCategory(
             @PathVariable Long categoryId,
-            @Valid @RequestBody CategoryDto.Update dto,
-            Authentication authentication) {
-        Long userId = (Long) authentication.getPrincipal();
-
-        checkAdminRole(userId);
-
+            @Valid @RequestBody CategoryDto.Update dto) {
         CategoryDto.Response response = categoryService.updateCategory(categoryId, dto);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * 카테고리 삭제(관리자 전용)
-     * PUT api/categories/{categoryId}
+     * 카테고리 삭제(관리자 전용, SecurityConfig에서 확인)
+     * DELETE api/categories/{categoryId}
      */
     @DeleteMapping("/{categoryId}")
-    public ResponseEntity<Void> deleteCategory(
-            @PathVariable Long categoryId,
-            Authentication authentication) {
-        Long userId = (Long) authentication.getPrincipal();
-
-        checkAdminRole(userId);
-
+    public ResponseEntity<Void> deleteCategory(@PathVariable Long categoryId) {
         categoryService.deleteCategory(categoryId);
         return ResponseEntity.noContent().build();
     }
-
-    // 관리자 확인용
-    private void checkAdminRole(Long userId) {
-        var user = userService.getUserById(userId);
-        if (!"ADMIN".equals(user.getRole())) {
-            throw new IllegalArgumentException("관리자 권한이 필요합니다..");
-        }
-    }
 }
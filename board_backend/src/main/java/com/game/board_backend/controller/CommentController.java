@@ -43,6 +43,21 @@ public class CommentController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 댓글 목록 조회 (커서)
+     * GET /api/boards/{boardId}/comments?after={nextCursor}&size=20&order=oldest
+     * 첫 페이지는 after를 비워서 요청, order는 oldest(기본) 또는 newest
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CommentDto.CursorResponse> getCommentsByCursor(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "oldest") String order) {
+        CommentDto.CursorResponse response = commentService.getCommentsByCursor(boardId, after, size, isNewestFirst(order));
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 댓글 수정
      * PUT /api/boards/{boardId}/comments/{commentId}
@@ -73,4 +88,16 @@ public class CommentController {
         commentService.deleteComment(commentId, userId);
         return ResponseEntity.noContent().build();
     }
+
+    // 정렬 순서 (oldest: 오래된순, newest: 최신순)
+    private boolean isNewestFirst(String order) {
+        if ("newest".equalsIgnoreCase(order)) {
+            return true;
+        }
+        if ("oldest".equalsIgnoreCase(order)) {
+            return false;
+        }
+
+        throw new IllegalArgumentException("정렬 순서는 oldest 또는 newest만 가능합니다.");
+    }
 }
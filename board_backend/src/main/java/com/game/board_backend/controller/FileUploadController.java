@@ -1,8 +1,12 @@
 package com.game.board_backend.controller;
 
 import com.game.board_backend.service.FileStorageService;
+import com.game.board_backend.service.ImageVariantService;
+import com.game.board_backend.service.ParallelFileStorage;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -11,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +27,8 @@ import java.util.Map;
 public class FileUploadController {
 
     private final FileStorageService fileStorageService;
+    private final ParallelFileStorage parallelFileStorage;
+    private final ImageVariantService imageVariantService;
 
     /**
      * 단일 이미지 저장
@@ -40,6 +47,7 @@ public class FileUploadController {
         }
 
         String fileUrl = fileStorageService.storeFile(file, "image");
+        imageVariantService.enqueue(fileUrl);
 
         Map<String, String> response = new HashMap<>();
 
@@ -50,8 +58,33 @@ public class FileUploadController {
     }
 
     /**
-     * 다중 이미지 저장
+     * 단일 이미지 저장 (요청 본문 스트리밍)
+     * POST /api/upload/image/stream
+     * multipart 대신 이미지 바이트를 본문에 그대로 보냄 (Content-Type: image/* 또는 application/octet-stream)
+     * 서버에서 메모리나 임시 파일에 한번 받아두지 않고 바로 저장 위치에 씀
+     */
+    @PostMapping(value = "/image/stream", consumes = {"image/*", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<Map<String, String>> uploadImageStream(
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+        if (authentication == null) {
+            throw new IllegalArgumentException("인증이 필요합니다.");
+        }
+
+        String fileUrl = fileStorageService.storeStream(request.getInputStream(), request.getContentLengthLong(), "images");
+        imageVariantService.enqueue(fileUrl);
+
+        Map<String, String> response = new HashMap<>();
+
+        response.put("imageUrl", fileUrl);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 다중 이미지 저장 (파일들을 동시에 저장, 결과는 보낸 순서대로)
      * POST /api/upload/images
+     * 실패한 파일은 error에 이유를 담아서 따로 알려줌 (하나도 저장 못 하면 400)
      */
     @PostMapping("/images")
     public ResponseEntity<List<Map<String, String>>> uploadImages(
@@ -61,22 +94,30 @@ public class FileUploadController {
             throw new IllegalArgumentException("인증이 필요합니다.");
         }
 
-        List<Map<String, String>> responses = new ArrayList<>();
-
-        for (MultipartFile file : files) {
-            if (!file.isEmpty()) {
-                String fileUrl = fileStorageService.storeFile(file, "images");
+        List<MultipartFile> nonEmptyFiles = files.stream()
+                .filter(file -> !file.isEmpty())
+                .toList();
+        List<ParallelFileStorage.StoreResult> results = parallelFileStorage.storeFiles(nonEmptyFiles, "images");
 
-                Map<String, String> response = new HashMap<>();
+        List<Map<String, String>> responses = new ArrayList<>();
 
-                response.put("imageUrl", fileUrl);
-                response.put("originalFileName", file.getOriginalFilename());
+        for (ParallelFileStorage.StoreResult result : results) {
+            Map<String, String> response = new HashMap<>();
 
-                responses.add(response);
+            response.put("originalFileName", result.originalFileName());
+            if (result.isStored()) {
+                imageVariantService.enqueue(result.imageUrl());
+                response.put("imageUrl", result.imageUrl());
+            } else {
+                response.put("error", result.error());
             }
+
+            responses.add(response);
         }
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+        boolean anyStored = results.stream().anyMatch(ParallelFileStorage.StoreResult::isStored);
+        HttpStatus status = anyStored || results.isEmpty() ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(responses);
     }
 
     /**
@@ -93,6 +134,7 @@ public class FileUploadController {
         }
 
         String fileUrl = fileStorageService.storeFile(file, "profiles");
+        imageVariantService.enqueue(fileUrl);
 
         Map<String, String> response = new HashMap<>();
 
@@ -0,0 +1,192 @@
+package com.game.board_backend.controller;
+
+import com.game.board_backend.cache.HotImageCache;
+import com.game.board_backend.config.FileUploadProperties;
+import com.game.board_backend.service.ImageType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 업로드된 이미지 서빙 (/images/**, /profiles/**)
+// 저장된 파일은 이름이 겹치지 않고 내용이 바뀌지 않아서 1년 + immutable로 캐시 (브라우저가 다시 확인하지 않음)
+// 작은 파일은 HotImageCache에서, 큰 파일은 Tomcat sendfile(커널이 파일을 소켓으로 바로 전송)로 보냄
+// Range 요청은 단일 구간만 지원 (여러 구간이면 전체 전송)
+@RestController
+@RequiredArgsConstructor
+public class ImageController {
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable()
+            .getHeaderValue();
+
+    // 저장할 때 만든 이름만 허용 (경로 이동 방지)
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9_-]+\\.([a-z]+)");
+    private static final Pattern HASHED_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z]+");
+
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileUploadProperties fileUploadProperties;
+    private final HotImageCache hotImageCache;
+
+    /**
+     * 게시글/댓글 이미지
+     * GET /images/{fileName}
+     */
+    @GetMapping("/images/{fileName}")
+    public void image(@PathVariable String fileName,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        serve("images", fileName, request, response);
+    }
+
+    /**
+     * 프로필 이미지
+     * GET /profiles/{fileName}
+     */
+    @GetMapping("/profiles/{fileName}")
+    public void profile(@PathVariable String fileName,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        serve("profiles", fileName, request, response);
+    }
+
+    private void serve(String subDirectory, String fileName,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Matcher matcher = FILE_NAME.matcher(fileName);
+        ImageType imageType = matcher.matches() ? ImageType.fromExtension(matcher.group(1)) : null;
+        if (imageType == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Path file = Paths.get(fileUploadProperties.getUploadDir(), subDirectory, fileName).toAbsolutePath();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = attributes.size();
+        String etag = etag(fileName, attributes);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // If-None-Match 비교 후 같으면 304 (ETag, Last-Modified 헤더도 여기서 설정)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, attributes.lastModifiedTime().toMillis())) {
+            return;
+        }
+
+        response.setContentType(imageType.getContentType());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (hotImageCache.accepts(length)) {
+            byte[] content = hotImageCache.get("/" + subDirectory + "/" + fileName, file);
+            response.getOutputStream().write(content, (int) start, (int) count);
+        } else if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 본문은 쓰지 않고 Tomcat이 응답 후에 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+        } else {
+            transfer(file, start, count, response.getOutputStream());
+        }
+    }
+
+    // 강한 ETag: 해시 이름이면 해시, 아니면 크기 + 수정 시각 (파일 내용이 바뀌지 않으므로 바이트 단위로 같음)
+    private String etag(String fileName, BasicFileAttributes attributes) {
+        if (HASHED_NAME.matcher(fileName).matches()) {
+            return "\"" + fileName.substring(0, fileName.indexOf('.')) + "\"";
+        }
+
+        return "\"" + Long.toHexString(attributes.size()) + "-"
+                + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+    }
+
+    // 단일 구간 Range만 처리 (If-Range가 현재 ETag와 다르거나 여러 구간이면 전체 전송)
+    private HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // sendfile을 못 쓰는 컨테이너: FileChannel.transferTo로 전송
+    private void transfer(Path file, long start, long count, OutputStream outputStream) throws IOException {
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = source.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.game.board_backend.controller;
 
 import com.game.board_backend.dto.AuthResponse;
+import com.game.board_backend.dto.BoardDto;
+import com.game.board_backend.dto.CommentDto;
+import com.game.board_backend.dto.CursorPage;
 import com.game.board_backend.dto.UserDto;
+import com.game.board_backend.service.BoardService;
+import com.game.board_backend.service.CommentService;
 import com.game.board_backend.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +22,8 @@ import org.springframework.web.multipart.MultipartFile;
 public class UserController {
 
     private final UserService userService;
+    private final BoardService boardService;
+    private final CommentService commentService;
 
     /**
      * 회원가입
@@ -29,6 +36,24 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 아이디/이메일/닉네임 사용 가능 여부 (회원가입 폼의 중복 확인)
+     * GET /api/auth/availability?userId=...&email=...&nickname=...
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<UserDto.Availability> checkAvailability(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String nickname) {
+        if (userId == null && email == null && nickname == null) {
+            throw new IllegalArgumentException("확인할 아이디, 이메일 또는 닉네임을 입력해주세요.");
+        }
+
+        UserDto.Availability response = userService.checkAvailability(userId, email, nickname);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 로그인(JWT 토큰 반환)
      * POST /api/auth/login
@@ -51,6 +76,82 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 권한 변경 (관리자 전용, SecurityConfig에서 확인)
+     * PUT /api/auth/users/{userId}/role
+     * 변경된 유저는 다시 로그인해야 함 (이전 토큰은 거부됨)
+     */
+    @PutMapping("/users/{userId}/role")
+    public ResponseEntity<UserDto.Response> changeRole(
+            @PathVariable Long userId,
+            @Valid @RequestBody UserDto.RoleChange dto) {
+        UserDto.Response response = userService.changeRole(userId, dto.getRole());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 유저가 작성한 게시글 목록 (커서, 최신순)
+     * GET /api/auth/users/{userId}/boards?after={nextCursor}&size=10
+     */
+    @GetMapping("/users/{userId}/boards")
+    public ResponseEntity<CursorPage<BoardDto.ListItem>> getUserBoards(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
+        Long currentUserId = authentication != null ? (Long) authentication.getPrincipal() : null;
+        CursorPage<BoardDto.ListItem> response = boardService.getBoardsByUserByCursor(userId, after, size, currentUserId);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 유저가 작성한 댓글 목록 (커서, 최신순, 게시글 제목 포함)
+     * GET /api/auth/users/{userId}/comments?after={nextCursor}&size=20
+     */
+    @GetMapping("/users/{userId}/comments")
+    public ResponseEntity<CursorPage<CommentDto.ActivityItem>> getUserComments(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<CommentDto.ActivityItem> response = commentService.getCommentsByUserByCursor(userId, after, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 내가 작성한 게시글 목록 (커서, 최신순)
+     * GET /api/auth/me/boards?after={nextCursor}&size=10
+     * Authorization: Bearer {token}
+     */
+    @GetMapping("/me/boards")
+    public ResponseEntity<CursorPage<BoardDto.ListItem>> getMyBoards(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        CursorPage<BoardDto.ListItem> response = boardService.getBoardsByUserByCursor(userId, after, size, userId);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 내가 작성한 댓글 목록 (커서, 최신순, 게시글 제목 포함)
+     * GET /api/auth/me/comments?after={nextCursor}&size=20
+     * Authorization: Bearer {token}
+     */
+    @GetMapping("/me/comments")
+    public ResponseEntity<CursorPage<CommentDto.ActivityItem>> getMyComments(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        CursorPage<CommentDto.ActivityItem> response = commentService.getCommentsByUserByCursor(userId, after, size);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 내 프로필 조회
      * GET /api/auth/me
@@ -0,0 +1,46 @@
+package com.game.board_backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 게시글 목록 커서 (createdAt, id)
+// 클라이언트에는 Base64 문자열로만 전달해서 내부 형식에 의존하지 않게 함
+// 댓글 목록도 같은 (createdAt, id) 순서라서 같이 사용
+public record BoardCursor(LocalDateTime createdAt, Long id) {
+
+    // 최신순 첫 페이지 조회용 (모든 게시글보다 뒤에 있는 위치)
+    public static final BoardCursor FIRST = new BoardCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    // 오래된순 첫 페이지 조회용 (모든 글보다 앞에 있는 위치)
+    public static final BoardCursor EARLIEST = new BoardCursor(LocalDateTime.of(1, 1, 1, 0, 0), 0L);
+
+    public String encode() {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // after 파라미터가 비어있으면 첫 페이지
+    public static BoardCursor decode(String cursor) {
+        return decode(cursor, FIRST);
+    }
+
+    // first: 비어있을 때 시작 위치 (오래된순이면 EARLIEST)
+    public static BoardCursor decode(String cursor, BoardCursor first) {
+        if (cursor == null || cursor.isBlank()) {
+            return first;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.lastIndexOf(',');
+            return new BoardCursor(
+                    LocalDateTime.parse(raw.substring(0, comma)),
+                    Long.parseLong(raw.substring(comma + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.game.board_backend.dto;
 
 import com.game.board_backend.model.Board;
+import com.game.board_backend.repository.BoardListView;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
@@ -51,6 +52,7 @@ public class BoardDto {
         private final String authorProfileImageUrl;
         private final Long viewCount;
         private final Long likeCount;
+        private final Long uniqueViewerCount;  // 고유 조회자 수 (HyperLogLog 근사치)
         private final boolean isLiked;     // 현재 유저가 좋아요 했는지 구분
 
         // 이미지 목록
@@ -64,22 +66,73 @@ public class BoardDto {
 
         private final String categoryName;
 
-        public Response(Board board, boolean isLiked, Long commentCount, List<ImageInfo> images) {
+        // viewCount: ViewCountBuffer의 현재 조회수 (DB에 반영된 값 + 아직 반영 안 된 값)
+        public Response(Detail detail, long viewCount, long uniqueViewerCount, boolean isLiked) {
+            this.id = detail.getId();
+            this.title = detail.getTitle();
+            this.content = detail.getContent();
+            this.authorId = detail.getAuthorId();
+            this.authorNickname = detail.getAuthorNickname();
+            this.authorProfileImageUrl = detail.getAuthorProfileImageUrl();
+            this.viewCount = viewCount;
+            this.likeCount = detail.getLikeCount();
+            this.uniqueViewerCount = uniqueViewerCount;
+            this.isLiked = isLiked;
+            this.commentCount = detail.getCommentCount();
+            this.images = detail.getImages();
+            this.createdAt = detail.getCreatedAt();
+            this.updatedAt = detail.getUpdatedAt();
+            this.categoryName = detail.getCategoryName();
+        }
+    }
+
+    // 게시글 상세 중 유저와 상관없는 부분 (BoardDetailCache에 저장)
+    // 조회수, 좋아요 여부, 고유 조회자 수는 응답 만들 때 따로 채움 (조회수가 반영될 때마다 캐시를 비우지 않도록)
+    @Getter
+    public static class Detail {
+        private final Long id;
+        private final String title;
+        private final String content;
+        private final Long authorId;
+        private final String authorNickname;
+        private final String authorProfileImageUrl;
+        private final Long likeCount;
+        private final Long commentCount;
+        private final List<ImageInfo> images;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+        private final String categoryName;
+
+        public Detail(Board board, List<ImageInfo> images) {
             this.id = board.getId();
             this.title = board.getTitle();
             this.content = board.getContent();
             this.authorId = board.getUser().getId();
             this.authorNickname = board.getUser().getNickname();
-            this.authorProfileImageUrl = board.getUser().getProfileImageUrl();
-            this.viewCount = board.getViewCount();
+            this.authorProfileImageUrl = board.getUser().getProfileThumbnailUrl() != null
+                    ? board.getUser().getProfileThumbnailUrl() : board.getUser().getProfileImageUrl();
             this.likeCount = board.getLikeCount();
-            this.isLiked = isLiked;
-            this.commentCount = commentCount;
-            this.images = images;
+            this.commentCount = board.getCommentCount();
+            this.images = List.copyOf(images);
             this.createdAt = board.getCreatedAt();
             this.updatedAt = board.getUpdatedAt();
             this.categoryName = board.getCategory() != null ? board.getCategory().getName() : null;
         }
+
+        // 대략적인 메모리 사용량 (문자열은 글자당 2바이트로 계산)
+        public int estimatedBytes() {
+            long bytes = 256 + 2L * (length(title) + length(content) + length(authorNickname)
+                    + length(authorProfileImageUrl) + length(categoryName));
+            for (ImageInfo image : images) {
+                bytes += 64 + 2L * (length(image.imageUrl()) + length(image.displayUrl()) + length(image.originalFileName()));
+            }
+
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
     }
 
     // 게시글 목록 조회 응답
@@ -91,31 +144,35 @@ public class BoardDto {
         private final Long viewCount;
         private final Long likeCount;
         private final Long commentCount;
+        private final boolean isLiked;     // 현재 유저가 좋아요 했는지 구분
 
-        // 썸네일용 이미지 주소
+        // 썸네일용 이미지 주소 (썸네일 크기로 줄인 이미지가 있으면 그 주소)
         private final String thumbnailUrl;
 
         private final LocalDateTime createdAt;
 
         private final String categoryName;
 
-        public ListItem(Board board, Long commentCount, String thumbnailUrl) {
-            this.id = board.getId();
-            this.title = board.getTitle();
-            this.authorNickname = board.getUser().getNickname();
-            this.viewCount = board.getViewCount();
-            this.likeCount = board.getLikeCount();
-            this.commentCount = commentCount;
-            this.thumbnailUrl = thumbnailUrl;
-            this.createdAt = board.getCreatedAt();
-            this.categoryName = board.getCategory() != null ? board.getCategory().getName() : null;
+        public ListItem(BoardListView view, long pendingViewCount, boolean isLiked) {
+            this.id = view.getId();
+            this.title = view.getTitle();
+            this.authorNickname = view.getAuthorNickname();
+            this.viewCount = view.getViewCount() + pendingViewCount;
+            this.likeCount = view.getLikeCount();
+            this.commentCount = view.getCommentCount();
+            this.isLiked = isLiked;
+            this.thumbnailUrl = view.getThumbnailUrl();
+            this.createdAt = view.getCreatedAt();
+            this.categoryName = view.getCategoryName();
         }
     }
 
     // 이미지 정보
+    // imageUrl: 원본 (수정 요청에 그대로 사용), displayUrl: 본문 표시용 (중간 크기가 있으면 그 주소)
     public record ImageInfo(
             Long id,
             String imageUrl,
+            String displayUrl,
             String originalFileName,
             Integer orderIndex
     ) { }
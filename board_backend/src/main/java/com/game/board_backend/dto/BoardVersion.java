@@ -0,0 +1,50 @@
+package com.game.board_backend.dto;
+
+import com.game.board_backend.cache.ETags;
+import com.game.board_backend.repository.BoardVersionView;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// 게시글 상세 응답의 버전 (조건부 GET용)
+// 응답 값 중 바뀔 수 있는 것만 모아서 ETag를 만듦 (제목, 본문, 이미지 변경은 updatedAt으로 확인)
+// 조회수, 고유 조회자 수는 제외 (조회할 때마다 올라서 넣으면 다시 확인할 때마다 ETag가 바뀜, 304면 조회수는 조금 늦게 보임)
+// 그래서 같은 ETag라도 본문이 바이트 단위로 같지 않을 수 있어서 약한 ETag 사용
+public record BoardVersion(
+        LocalDateTime updatedAt,
+        long likeCount,
+        long commentCount,
+        String authorNickname,
+        String authorProfileImageUrl,
+        String categoryName,
+        boolean liked
+) {
+    // 응답을 다 만든 뒤 (200 응답에 실을 ETag)
+    public static BoardVersion of(BoardDto.Response response) {
+        return new BoardVersion(response.getUpdatedAt(), response.getLikeCount(),
+                response.getCommentCount(), response.getAuthorNickname(), response.getAuthorProfileImageUrl(),
+                response.getCategoryName(), response.isLiked());
+    }
+
+    // 상세 캐시에 있을 때
+    public static BoardVersion of(BoardDto.Detail detail, boolean liked) {
+        return new BoardVersion(detail.getUpdatedAt(), detail.getLikeCount(),
+                detail.getCommentCount(), detail.getAuthorNickname(), detail.getAuthorProfileImageUrl(),
+                detail.getCategoryName(), liked);
+    }
+
+    // 상세 캐시에 없을 때 (버전 컬럼만 조회)
+    public static BoardVersion of(BoardVersionView view, boolean liked) {
+        return new BoardVersion(view.getUpdatedAt(), view.getLikeCount(),
+                view.getCommentCount(), view.getAuthorNickname(), view.getAuthorProfileImageUrl(),
+                view.getCategoryName(), liked);
+    }
+
+    public String etag() {
+        return ETags.weakDigest(String.join("|",
+                String.valueOf(updatedAt), String.valueOf(likeCount),
+                String.valueOf(commentCount), Objects.toString(authorNickname, ""),
+                Objects.toString(authorProfileImageUrl, ""), Objects.toString(categoryName, ""),
+                String.valueOf(liked)));
+    }
+}
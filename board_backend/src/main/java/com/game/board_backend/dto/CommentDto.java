@@ -1,6 +1,7 @@
 package com.game.board_backend.dto;
 
 import com.game.board_backend.model.Comment;
+import com.game.board_backend.repository.CommentActivityView;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
@@ -45,17 +46,49 @@ public class CommentDto {
             this.id = comment.getId();
             this.content = comment.getContent();
             this.authorNickname = comment.getUser().getNickname();
-            this.authorProfileImageUrl = comment.getUser().getProfileImageUrl();
+            this.authorProfileImageUrl = comment.getUser().getProfileThumbnailUrl() != null
+                    ? comment.getUser().getProfileThumbnailUrl() : comment.getUser().getProfileImageUrl();
             this.images = images;
             this.createdAt = comment.getCreatedAt();
             this.updatedAt = comment.getUpdatedAt();
         }
     }
 
+    // 유저별 작성 댓글 목록 항목 (어느 게시글에 단 댓글인지 제목 포함)
+    @Getter
+    public static class ActivityItem {
+        private final Long id;
+        private final String content;
+        private final Long boardId;
+        private final String boardTitle;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        public ActivityItem(CommentActivityView view) {
+            this.id = view.getId();
+            this.content = view.getContent();
+            this.boardId = view.getBoardId();
+            this.boardTitle = view.getBoardTitle();
+            this.createdAt = view.getCreatedAt();
+            this.updatedAt = view.getUpdatedAt();
+        }
+    }
+
+    // 댓글 커서 페이지 응답
+    // totalCount: 게시글에 저장된 댓글 수 (COUNT 쿼리 없이)
+    public record CursorResponse(
+            List<Response> content,
+            String nextCursor,
+            boolean hasNext,
+            long totalCount
+    ) { }
+
     // 이미지 정보
+    // imageUrl: 원본 (수정 요청에 그대로 사용), displayUrl: 댓글 표시용 (썸네일이 있으면 그 주소)
     public record ImageInfo(
             Long id,
             String imageUrl,
+            String displayUrl,
             String originalFileName,
             Integer orderIndex
     ) { }
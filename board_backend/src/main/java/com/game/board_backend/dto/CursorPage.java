@@ -0,0 +1,10 @@
+package com.game.board_backend.dto;
+
+import java.util.List;
+
+// 커서 기반 페이징 응답 (전체 개수는 COUNT 비용 때문에 포함하지 않음)
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,  // 다음 페이지 요청 시 after 파라미터로 전달, 마지막 페이지면 null
+        boolean hasNext
+) { }
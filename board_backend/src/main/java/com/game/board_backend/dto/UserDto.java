@@ -1,8 +1,10 @@
 package com.game.board_backend.dto;
 
 import com.game.board_backend.model.User;
+import com.game.board_backend.model.UserRole;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
@@ -55,6 +57,17 @@ public class UserDto {
         private String profileImageUrl;
     }
 
+    // 아이디/이메일/닉네임 사용 가능 여부 (확인하지 않은 항목은 null)
+    public record Availability(Boolean userId, Boolean email, Boolean nickname) {}
+
+    // 권한 변경 요청 (관리자 전용)
+    @Getter
+    @Setter
+    public static class RoleChange {
+        @NotNull
+        private UserRole role;
+    }
+
     // 응답
     // 비밀번호는 제외
     @Getter
@@ -64,6 +77,7 @@ public class UserDto {
         private final String nickname;
         private final String email;
         private final String profileImageUrl;
+        private final String profileThumbnailUrl;
         private final String role;
         private final LocalDateTime createdAt;
 
@@ -74,6 +88,7 @@ public class UserDto {
             this.nickname = user.getNickname();
             this.email = user.getEmail();
             this.profileImageUrl = user.getProfileImageUrl();
+            this.profileThumbnailUrl = user.getProfileThumbnailUrl();
             this.role = user.getRole().name();
             this.createdAt = user.getCreatedAt();
         }
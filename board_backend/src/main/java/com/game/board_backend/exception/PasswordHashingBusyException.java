@@ -0,0 +1,9 @@
+package com.game.board_backend.exception;
+
+// 비밀번호 해싱 작업 대기열이 가득 찼거나 대기 시간이 초과된 경우 (503으로 응답)
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -3,15 +3,27 @@ package com.game.board_backend.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
+// 카운터 컬럼은 UPDATE 쿼리로 직접 증감하므로 변경된 컬럼만 UPDATE 하도록 설정
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
-@Table(name = "boards")
+@Table(
+        name = "boards",
+        indexes = {
+                // 커서 페이징 (createdAt, id) 탐색용
+                @Index(name = "idx_boards_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_boards_category_created_at_id", columnList = "category_id, created_at, id"),
+                // 유저별 작성 글 커서 페이징용
+                @Index(name = "idx_boards_user_created_at_id", columnList = "user_id, created_at, id")
+        }
+)
 public class Board {
     // 게시판 고유 ID(PK)
     @Id
@@ -27,6 +39,13 @@ public class Board {
     @Column(nullable = false)
     private Long likeCount = 0L;
 
+    // 댓글 수 (목록/상세 조회 시 COUNT 하지 않도록 비정규화, 증감은 BoardRepository 쿼리로만)
+    @Column(nullable = false)
+    private Long commentCount = 0L;
+
+    // 썸네일 주소 (첫 번째 이미지, 썸네일 크기로 줄인 이미지가 있으면 그 주소)
+    private String thumbnailUrl;
+
     // 유저 고유 ID(FK)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -56,21 +75,4 @@ public class Board {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
-
-    // 조회수 증가 메서드
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
-    // 좋아요 증가 메서드
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    // 좋아요 취소할 경우
-    public void decreaseLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
 }
@@ -14,8 +14,10 @@ import java.time.LocalDateTime;
 @Table(name = "board_images")
 public class BoardImage {
     // 게시판 이미지 고유 ID(PK)
+    // 시퀀스로 ID를 미리 받아와서 여러 행을 한번에 INSERT (IDENTITY는 배치 INSERT가 안 됨)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_image_seq")
+    @SequenceGenerator(name = "board_image_seq", sequenceName = "board_images_seq", allocationSize = 50)
     private Long id;
 
     // 게시판 ID(FK)
@@ -27,6 +29,10 @@ public class BoardImage {
     @Column(nullable = false)
     private String imageUrl;
 
+    // 줄인 이미지 주소 (ImageVariantService가 나중에 채움, 원본이 더 작거나 아직 안 만들어졌으면 null)
+    private String thumbnailUrl;
+    private String mediumUrl;
+
     // 업로드 됐을 때 이미지 이름 저장용
     private String originalFileName;
 
@@ -0,0 +1,46 @@
+package com.game.board_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+// 게시글별 고유 조회자 HyperLogLog 스케치
+// 게시글 조회 때마다 같이 읽히지 않도록 boards와 분리
+@Entity
+@Getter
+@Setter
+@Table(name = "board_view_sketches")
+public class BoardViewSketch {
+    // 게시판 고유 ID(PK, FK)
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    // 게시글 삭제 시 같이 삭제되도록 FK만 연결 (읽기 전용)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Board board;
+
+    // HyperLogLog 레지스터 (2^precision 바이트)
+    @Lob
+    @Column(nullable = false)
+    private byte[] registers;
+
+    // 마지막 저장 시점의 추정치
+    @Column(nullable = false)
+    private Long uniqueViewerCount = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
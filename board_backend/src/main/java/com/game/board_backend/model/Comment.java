@@ -11,7 +11,15 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Setter
-@Table(name = "comments")
+@Table(
+        name = "comments",
+        indexes = {
+                // 게시글별 댓글 커서 페이징 (createdAt, id) 탐색용
+                @Index(name = "idx_comments_board_created_at_id", columnList = "board_id, created_at, id"),
+                // 유저별 작성 댓글 커서 페이징용
+                @Index(name = "idx_comments_user_created_at_id", columnList = "user_id, created_at, id")
+        }
+)
 public class Comment {
     // 댓글 전용 ID(PK)
     @Id
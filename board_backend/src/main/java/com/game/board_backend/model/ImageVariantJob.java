@@ -0,0 +1,57 @@
+package com.game.board_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 업로드된 이미지의 줄인 이미지(썸네일, 중간 크기) 생성 작업
+// DB에 저장해서 서버가 재시작돼도 작업이 사라지지 않음
+// 완료된 작업은 원본 주소 -> 줄인 이미지 주소 목록으로도 사용 (업로드 후에 게시글/댓글이 저장되는 경우)
+@Entity
+@Getter
+@Setter
+@Table(
+        name = "image_variant_jobs",
+        indexes = {
+                @Index(name = "idx_image_variant_jobs_status_id", columnList = "status, id")
+        }
+)
+public class ImageVariantJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 원본 이미지 주소
+    @Column(unique = true, nullable = false)
+    private String imageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImageVariantStatus status = ImageVariantStatus.PENDING;
+
+    // 시도 횟수 (실패하면 증가)
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    private String thumbnailUrl;
+    private String mediumUrl;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package com.game.board_backend.model;
+
+// 줄인 이미지 생성 작업 상태
+public enum ImageVariantStatus {
+    PENDING,     // 대기 중
+    PROCESSING,  // 처리 중 (서버가 재시작되면 다시 PENDING으로)
+    DONE,        // 완료 (만들 필요가 없었던 크기는 주소가 null)
+    FAILED       // 재시도 횟수 초과 (원본을 그대로 사용)
+}
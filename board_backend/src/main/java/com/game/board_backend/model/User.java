@@ -34,6 +34,10 @@ public class User {
     @Column(nullable = false)
     private UserRole role = UserRole.USER;
 
+    // 토큰 버전 (권한이 바뀌면 증가, 이전 버전으로 발급된 토큰은 거부)
+    @Column(nullable = false)
+    private Long tokenVersion = 0L;
+
     // 유저 가입 날짜
     @Column(updatable = false, nullable = false)
     private LocalDateTime createdAt;
@@ -41,6 +45,9 @@ public class User {
     // 프로필 이미지 저장용(주소로 저장해서 불러올 것)
     private String profileImageUrl;
 
+    // 프로필 이미지를 줄인 이미지 주소 (게시글/댓글 작성자 표시용, 아직 없으면 null)
+    private String profileThumbnailUrl;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -2,8 +2,12 @@ package com.game.board_backend.repository;
 
 import com.game.board_backend.model.BoardImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +20,27 @@ public interface BoardImageRepository extends JpaRepository<BoardImage, Long> {
 
     // 특정 게시글의 이미지 삭제
     void deleteByBoardId(Long boardId);
+
+    // 원본 이미지를 사용하는 게시글 ID (줄인 이미지가 만들어졌을 때 상세 캐시 무효화용)
+    @Query("SELECT DISTINCT bi.board.id FROM BoardImage bi WHERE bi.imageUrl = :imageUrl")
+    List<Long> findBoardIdsByImageUrl(@Param("imageUrl") String imageUrl);
+
+    // 원본 이미지를 쓰는 행 수 (업로드 파일 정리 작업의 삭제 직전 재확인용)
+    long countByImageUrl(String imageUrl);
+
+    // 주어진 주소 중 게시글에서 쓰는 것 (업로드 파일 정리 작업의 참조 확인용)
+    @Query("SELECT DISTINCT bi.imageUrl FROM BoardImage bi WHERE bi.imageUrl IN :imageUrls")
+    List<String> findImageUrlsIn(@Param("imageUrls") Collection<String> imageUrls);
+
+    // 원본 이미지 주소 변경 (내용 주소 방식 전환 시)
+    @Modifying
+    @Query("UPDATE BoardImage bi SET bi.imageUrl = :newUrl WHERE bi.imageUrl = :oldUrl")
+    int replaceImageUrl(@Param("oldUrl") String oldUrl, @Param("newUrl") String newUrl);
+
+    // 줄인 이미지 주소 기록
+    @Modifying
+    @Query("UPDATE BoardImage bi SET bi.thumbnailUrl = :thumbnailUrl, bi.mediumUrl = :mediumUrl WHERE bi.imageUrl = :imageUrl")
+    int updateVariants(@Param("imageUrl") String imageUrl,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("mediumUrl") String mediumUrl);
 }
@@ -2,8 +2,12 @@ package com.game.board_backend.repository;
 
 import com.game.board_backend.model.BoardLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +21,23 @@ public interface BoardLikeRepository extends JpaRepository<BoardLike, Long> {
     // 특정 게시글의 좋아요 삭제
     void deleteByBoardId(Long boardId);
 
-    // 특정 유저의 특정 게시글 좋아요 삭제
-    void deleteByBoardIdAndUserId(Long boardId, Long userId);
+    // 특정 유저의 특정 게시글 좋아요 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM BoardLike bl WHERE bl.board.id = :boardId AND bl.user.id = :userId")
+    int deleteByBoardIdAndUserId(@Param("boardId") Long boardId, @Param("userId") Long userId);
+
+    // 좋아요가 없을 때만 추가 (게시글이 없거나 이미 좋아요 했으면 0 반환)
+    @Modifying
+    @Query(value = "INSERT INTO board_likes (board_id, user_id, created_at) " +
+            "SELECT b.id, :userId, CURRENT_TIMESTAMP FROM boards b WHERE b.id = :boardId " +
+            "AND NOT EXISTS (SELECT 1 FROM board_likes bl WHERE bl.board_id = :boardId AND bl.user_id = :userId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("boardId") Long boardId, @Param("userId") Long userId);
+
+    // 특정 유저가 좋아요 한 게시글 ID 목록
+    @Query("SELECT bl.board.id FROM BoardLike bl WHERE bl.user.id = :userId")
+    List<Long> findBoardIdsByUserId(@Param("userId") Long userId);
+
+    // 특정 게시글의 좋아요 개수
+    long countByBoardId(Long boardId);
 }
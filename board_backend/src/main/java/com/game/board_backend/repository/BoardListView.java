@@ -0,0 +1,24 @@
+package com.game.board_backend.repository;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록용 프로젝션 (목록 화면에 필요한 컬럼만 한번에 조회)
+public interface BoardListView {
+    Long getId();
+
+    String getTitle();
+
+    String getAuthorNickname();
+
+    Long getViewCount();
+
+    Long getLikeCount();
+
+    Long getCommentCount();
+
+    String getThumbnailUrl();
+
+    LocalDateTime getCreatedAt();
+
+    String getCategoryName();
+}
@@ -3,19 +3,38 @@ package com.game.board_backend.repository;
 import com.game.board_backend.model.Board;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
+    // 목록 조회용 SELECT 절 (작성자, 카테고리만 조인)
+    String LIST_SELECT = "SELECT b.id AS id, b.title AS title, u.nickname AS authorNickname, " +
+            "b.viewCount AS viewCount, b.likeCount AS likeCount, " +
+            "b.commentCount AS commentCount, b.thumbnailUrl AS thumbnailUrl, " +
+            "b.createdAt AS createdAt, cat.name AS categoryName " +
+            "FROM Board b JOIN b.user u LEFT JOIN b.category cat ";
+
+    // 커서 위치보다 뒤에 있는 게시글만 (createdAt, id 기준)
+    String AFTER_CURSOR = "(b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) ";
+
     // 특정 유저가 작성한 게시글 목록
     List<Board> findByUserId(Long userId);
 
+    // 유저의 게시글 ID (회원 탈퇴로 CASCADE 삭제되는 게시글을 검색 색인 등에서도 제거)
+    @Query("SELECT b.id FROM Board b WHERE b.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
     // 특정 유저가 작성한 게시글 목록 (페이징)
     Page<Board> findByUserId(Long userId, Pageable pageable);
 
@@ -44,4 +63,109 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     // 카테고리 별 게시글 개수
     long countByCategoryId(Long categoryId);
 
+    // 상세 조회 ETag 계산용 (본문, 이미지 없이 바뀔 수 있는 값만)
+    @Query("SELECT b.updatedAt AS updatedAt, b.likeCount AS likeCount, " +
+            "b.commentCount AS commentCount, u.nickname AS authorNickname, " +
+            "COALESCE(u.profileThumbnailUrl, u.profileImageUrl) AS authorProfileImageUrl, cat.name AS categoryName " +
+            "FROM Board b JOIN b.user u LEFT JOIN b.category cat WHERE b.id = :id")
+    Optional<BoardVersionView> findVersionById(@Param("id") Long id);
+
+    // 댓글 수만 조회 (댓글 페이지의 전체 개수)
+    @Query("SELECT b.commentCount FROM Board b WHERE b.id = :id")
+    Optional<Long> findCommentCountById(@Param("id") Long id);
+
+    // 목록 조회 (최신순, 프로젝션)
+    @Query(value = LIST_SELECT + "ORDER BY b.createdAt DESC, b.id DESC",
+            countQuery = "SELECT COUNT(b) FROM Board b")
+    Page<BoardListView> findListItems(Pageable pageable);
+
+    // 카테고리 별 목록 조회 (최신순, 프로젝션)
+    @Query(value = LIST_SELECT + "WHERE cat.id = :categoryId ORDER BY b.createdAt DESC, b.id DESC",
+            countQuery = "SELECT COUNT(b) FROM Board b WHERE b.category.id = :categoryId")
+    Page<BoardListView> findListItemsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    // 목록 조회 (커서 기반, COUNT 없음)
+    @Query(LIST_SELECT + "WHERE " + AFTER_CURSOR + "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardListView> findListItemsAfter(@Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    // 유저별 작성 글 목록 (커서 기반, COUNT 없음)
+    @Query(LIST_SELECT + "WHERE u.id = :userId AND " + AFTER_CURSOR + "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardListView> findListItemsByUserIdAfter(@Param("userId") Long userId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    // 카테고리 별 목록 조회 (커서 기반, COUNT 없음)
+    @Query(LIST_SELECT + "WHERE cat.id = :categoryId AND " + AFTER_CURSOR + "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardListView> findListItemsByCategoryIdAfter(@Param("categoryId") Long categoryId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    // ID 목록으로 목록 조회 (검색 결과 채우기용, 순서는 호출하는 쪽에서 맞춤)
+    @Query(LIST_SELECT + "WHERE b.id IN :ids")
+    List<BoardListView> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 재생성용 (ID 순서로 끊어서 조회)
+    @Query("SELECT b.id AS id, b.title AS title, b.content AS content, b.createdAt AS createdAt " +
+            "FROM Board b WHERE b.id > :afterId ORDER BY b.id")
+    List<BoardSearchView> findSearchViewsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 댓글 수 증가
+    @Transactional
+    @Modifying
+    @Query("UPDATE Board b SET b.commentCount = b.commentCount + 1 WHERE b.id = :boardId")
+    int increaseCommentCount(@Param("boardId") Long boardId);
+
+    // 댓글 수 감소
+    @Transactional
+    @Modifying
+    @Query("UPDATE Board b SET b.commentCount = b.commentCount - 1 WHERE b.id = :boardId AND b.commentCount > 0")
+    int decreaseCommentCount(@Param("boardId") Long boardId);
+
+    // 좋아요 수 증가
+    @Modifying
+    @Query("UPDATE Board b SET b.likeCount = b.likeCount + 1 WHERE b.id = :boardId")
+    int increaseLikeCount(@Param("boardId") Long boardId);
+
+    // 좋아요 수 감소
+    @Modifying
+    @Query("UPDATE Board b SET b.likeCount = b.likeCount - 1 WHERE b.id = :boardId AND b.likeCount > 0")
+    int decreaseLikeCount(@Param("boardId") Long boardId);
+
+    // 원본 이미지를 썸네일로 쓰는 게시글을 줄인 이미지로 교체
+    @Modifying
+    @Query("UPDATE Board b SET b.thumbnailUrl = :thumbnailUrl WHERE b.thumbnailUrl = :imageUrl")
+    int replaceThumbnailUrl(@Param("imageUrl") String imageUrl, @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 수정 시각 갱신 (줄인 이미지가 기록돼서 상세 응답의 이미지 주소가 바뀌었을 때, 상세 ETag가 바뀌도록)
+    @Modifying
+    @Query("UPDATE Board b SET b.updatedAt = :updatedAt WHERE b.id IN :ids")
+    int touchUpdatedAt(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 가장 큰 게시글 ID (보정 작업 범위 계산용)
+    @Query("SELECT COALESCE(MAX(b.id), 0) FROM Board b")
+    long findMaxId();
+
+    // 범위 안의 게시글 중 실제 댓글 수와 다른 것만 보정
+    @Transactional
+    @Modifying
+    @Query("UPDATE Board b SET b.commentCount = " +
+            "(SELECT COUNT(c) FROM Comment c WHERE c.board.id = b.id) " +
+            "WHERE b.id > :fromId AND b.id <= :toId AND b.commentCount <> " +
+            "(SELECT COUNT(c) FROM Comment c WHERE c.board.id = b.id)")
+    int reconcileCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 범위 안의 게시글 중 실제 첫 번째 이미지와 다른 썸네일만 보정 (줄인 이미지가 있으면 그 주소)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Board b SET b.thumbnailUrl = " +
+            "(SELECT MIN(COALESCE(bi.thumbnailUrl, bi.imageUrl)) FROM BoardImage bi WHERE bi.board.id = b.id AND bi.orderIndex = " +
+            "(SELECT MIN(bi2.orderIndex) FROM BoardImage bi2 WHERE bi2.board.id = b.id)) " +
+            "WHERE b.id > :fromId AND b.id <= :toId AND b.thumbnailUrl IS DISTINCT FROM " +
+            "(SELECT MIN(COALESCE(bi.thumbnailUrl, bi.imageUrl)) FROM BoardImage bi WHERE bi.board.id = b.id AND bi.orderIndex = " +
+            "(SELECT MIN(bi2.orderIndex) FROM BoardImage bi2 WHERE bi2.board.id = b.id))")
+    int reconcileThumbnailUrl(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,14 @@
+package com.game.board_backend.repository;
+
+import java.time.LocalDateTime;
+
+// 검색 색인 재생성용 프로젝션
+public interface BoardSearchView {
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+}
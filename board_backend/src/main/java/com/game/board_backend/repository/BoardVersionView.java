@@ -0,0 +1,18 @@
+package com.game.board_backend.repository;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 버전 확인용 프로젝션 (조건부 GET에서 본문 조립 전에 바뀌었는지만 확인)
+public interface BoardVersionView {
+    LocalDateTime getUpdatedAt();
+
+    Long getLikeCount();
+
+    Long getCommentCount();
+
+    String getAuthorNickname();
+
+    String getAuthorProfileImageUrl();
+
+    String getCategoryName();
+}
@@ -0,0 +1,16 @@
+package com.game.board_backend.repository;
+
+import com.game.board_backend.model.BoardViewSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BoardViewSketchRepository extends JpaRepository<BoardViewSketch, Long> {
+    // 마지막으로 저장된 추정치만 (메모리에 스케치가 없는 게시글의 상세 조회용, 레지스터는 읽지 않음)
+    @Query("SELECT s.uniqueViewerCount FROM BoardViewSketch s WHERE s.boardId = :boardId")
+    Optional<Long> findUniqueViewerCountByBoardId(@Param("boardId") Long boardId);
+}
@@ -0,0 +1,18 @@
+package com.game.board_backend.repository;
+
+import java.time.LocalDateTime;
+
+// 유저별 작성 댓글 목록용 프로젝션 (댓글 + 게시글 제목을 한번에 조회)
+public interface CommentActivityView {
+    Long getId();
+
+    String getContent();
+
+    Long getBoardId();
+
+    String getBoardTitle();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -2,8 +2,12 @@ package com.game.board_backend.repository;
 
 import com.game.board_backend.model.CommentImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,6 +15,28 @@ public interface CommentImageRepository extends JpaRepository<CommentImage, Long
     // 특정 댓글의 이미지 목록 (순서대로)
     List<CommentImage> findByCommentIdOrderByOrderIndexAsc(Long commentId);
 
+    // 여러 댓글의 이미지 목록 (댓글 목록 조회 시 한번에)
+    List<CommentImage> findByCommentIdInOrderByOrderIndexAsc(Collection<Long> commentIds);
+
     // 특정 댓글의 이미지 삭제
     void deleteByCommentId(Long commentId);
+
+    // 원본 이미지를 쓰는 행 수 (업로드 파일 정리 작업의 삭제 직전 재확인용)
+    long countByImageUrl(String imageUrl);
+
+    // 주어진 주소 중 댓글에서 쓰는 것 (업로드 파일 정리 작업의 참조 확인용)
+    @Query("SELECT DISTINCT ci.imageUrl FROM CommentImage ci WHERE ci.imageUrl IN :imageUrls")
+    List<String> findImageUrlsIn(@Param("imageUrls") Collection<String> imageUrls);
+
+    // 원본 이미지 주소 변경 (내용 주소 방식 전환 시)
+    @Modifying
+    @Query("UPDATE CommentImage ci SET ci.imageUrl = :newUrl WHERE ci.imageUrl = :oldUrl")
+    int replaceImageUrl(@Param("oldUrl") String oldUrl, @Param("newUrl") String newUrl);
+
+    // 줄인 이미지 주소 기록
+    @Modifying
+    @Query("UPDATE CommentImage ci SET ci.thumbnailUrl = :thumbnailUrl, ci.mediumUrl = :mediumUrl WHERE ci.imageUrl = :imageUrl")
+    int updateVariants(@Param("imageUrl") String imageUrl,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("mediumUrl") String mediumUrl);
 }
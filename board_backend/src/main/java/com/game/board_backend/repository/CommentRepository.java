@@ -1,9 +1,14 @@
 package com.game.board_backend.repository;
 
 import com.game.board_backend.model.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -17,6 +22,43 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 특정 유저가 작성한 댓글 목록
     List<Comment> findByUserId(Long userId);
 
+    // 특정 게시글의 댓글 목록 (오래된순, 작성자 함께 조회)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.board.id = :boardId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findWithUserByBoardId(@Param("boardId") Long boardId);
+
+    // 특정 게시글의 댓글 페이지 (오래된순 커서, 작성자 함께 조회)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.board.id = :boardId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> findWithUserByBoardIdAfter(@Param("boardId") Long boardId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    // 특정 게시글의 댓글 페이지 (최신순 커서, 작성자 함께 조회)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.board.id = :boardId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Comment> findWithUserByBoardIdBefore(@Param("boardId") Long boardId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    // 특정 유저가 작성한 댓글 페이지 (최신순 커서, 게시글 제목 함께 조회)
+    @Query("SELECT c.id AS id, c.content AS content, b.id AS boardId, b.title AS boardTitle, " +
+            "c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+            "FROM Comment c JOIN c.board b WHERE c.user.id = :userId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<CommentActivityView> findActivityByUserIdBefore(@Param("userId") Long userId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    // 특정 유저가 작성한 댓글 목록 (최신순, 작성자 함께 조회)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.user.id = :userId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findWithUserByUserId(@Param("userId") Long userId);
+
     // 특정 게시글의 댓글 개수
     long countByBoardId(Long boardId);
 
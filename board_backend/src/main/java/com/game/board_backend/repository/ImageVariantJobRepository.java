@@ -0,0 +1,58 @@
+package com.game.board_backend.repository;
+
+import com.game.board_backend.model.ImageVariantJob;
+import com.game.board_backend.model.ImageVariantStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImageVariantJobRepository extends JpaRepository<ImageVariantJob, Long> {
+    // 이미 등록된 이미지인지
+    boolean existsByImageUrl(String imageUrl);
+
+    // 원본 주소로 작업 조회 (원본 삭제 시 줄인 이미지도 정리)
+    Optional<ImageVariantJob> findByImageUrl(String imageUrl);
+
+    // 상태별 작업 (오래된 것부터)
+    List<ImageVariantJob> findByStatusOrderByIdAsc(ImageVariantStatus status, Pageable pageable);
+
+    // 원본 주소 목록 중 줄인 이미지가 만들어진 것 (게시글/댓글 저장 시 한번에)
+    List<ImageVariantJob> findByImageUrlInAndStatus(Collection<String> imageUrls, ImageVariantStatus status);
+
+    // 주어진 주소 중 줄인 이미지로 기록된 것 (원본이 남아 있는 줄인 이미지는 정리하지 않음)
+    @Query("SELECT j.thumbnailUrl FROM ImageVariantJob j WHERE j.thumbnailUrl IN :urls")
+    List<String> findThumbnailUrlsIn(@Param("urls") Collection<String> urls);
+
+    @Query("SELECT j.mediumUrl FROM ImageVariantJob j WHERE j.mediumUrl IN :urls")
+    List<String> findMediumUrlsIn(@Param("urls") Collection<String> urls);
+
+    // 완료된 작업 중 줄인 이미지 주소가 빠진 행이 남아 있는 것 (ID 순서로 끊어서 조회)
+    // 완료 처리의 UPDATE보다 늦게 커밋된 게시글/댓글/프로필 저장은 원본 주소만 가지고 있어서 보정 대상
+    @Query("SELECT j FROM ImageVariantJob j WHERE j.status = :status AND j.id > :afterId AND (" +
+            "EXISTS (SELECT 1 FROM BoardImage bi WHERE bi.imageUrl = j.imageUrl " +
+            "AND (bi.thumbnailUrl IS DISTINCT FROM j.thumbnailUrl OR bi.mediumUrl IS DISTINCT FROM j.mediumUrl)) " +
+            "OR EXISTS (SELECT 1 FROM CommentImage ci WHERE ci.imageUrl = j.imageUrl " +
+            "AND (ci.thumbnailUrl IS DISTINCT FROM j.thumbnailUrl OR ci.mediumUrl IS DISTINCT FROM j.mediumUrl)) " +
+            "OR EXISTS (SELECT 1 FROM User u WHERE u.profileImageUrl = j.imageUrl " +
+            "AND u.profileThumbnailUrl IS DISTINCT FROM j.thumbnailUrl) " +
+            "OR (j.thumbnailUrl IS NOT NULL AND EXISTS (SELECT 1 FROM Board b WHERE b.thumbnailUrl = j.imageUrl))" +
+            ") ORDER BY j.id")
+    List<ImageVariantJob> findUnappliedAfter(@Param("status") ImageVariantStatus status,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    // 상태 일괄 변경 (서버 재시작 시 처리 중이던 작업을 다시 대기로)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageVariantJob j SET j.status = :to WHERE j.status = :from")
+    int updateStatus(@Param("from") ImageVariantStatus from, @Param("to") ImageVariantStatus to);
+}
@@ -0,0 +1,12 @@
+package com.game.board_backend.repository;
+
+// 아이디/이메일/닉네임 중복 확인용 프로젝션
+public interface UserIdentityView {
+    Long getId();
+
+    String getUserId();
+
+    String getEmail();
+
+    String getNickname();
+}
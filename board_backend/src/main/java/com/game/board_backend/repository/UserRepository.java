@@ -1,16 +1,27 @@
 package com.game.board_backend.repository;
 
 import com.game.board_backend.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    String IDENTITY_SELECT = "SELECT u.id AS id, u.userId AS userId, u.email AS email, u.nickname AS nickname FROM User u ";
+
     // 아이디로 유저 찾기
     Optional<User> findByUserId(String userId);
 
+    // 토큰 버전이 한번이라도 바뀐 유저 (서버 시작 시 토큰 버전 목록 로딩용)
+    List<User> findByTokenVersionGreaterThan(Long tokenVersion);
+
     // 이메일로 유저 찾기
     Optional<User> findByEmail(String email);
 
@@ -22,4 +33,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 닉네임 중복 체크
     boolean existsByNickname(String nickname);
+
+    // 회원가입 중복 체크 (아이디, 이메일, 닉네임 중 하나라도 같은 유저를 한번에 조회, 최대 3명)
+    @Query(IDENTITY_SELECT + "WHERE u.userId = :userId OR u.email = :email OR u.nickname = :nickname")
+    List<UserIdentityView> findConflicts(@Param("userId") String userId,
+                                         @Param("email") String email,
+                                         @Param("nickname") String nickname);
+
+    // 프로필 이미지로 사용 중인 유저 ID (줄인 이미지가 만들어졌을 때 상세 캐시 무효화용)
+    @Query("SELECT u.id FROM User u WHERE u.profileImageUrl = :imageUrl")
+    List<Long> findIdsByProfileImageUrl(@Param("imageUrl") String imageUrl);
+
+    // 프로필 이미지로 쓰는 유저 수 (업로드 파일 정리 작업의 삭제 직전 재확인용)
+    long countByProfileImageUrl(String profileImageUrl);
+
+    // 주어진 주소 중 프로필 이미지로 쓰는 것 (업로드 파일 정리 작업의 참조 확인용)
+    @Query("SELECT DISTINCT u.profileImageUrl FROM User u WHERE u.profileImageUrl IN :imageUrls")
+    List<String> findProfileImageUrlsIn(@Param("imageUrls") Collection<String> imageUrls);
+
+    // 프로필 이미지 주소 변경 (내용 주소 방식 전환 시)
+    @Modifying
+    @Query("UPDATE User u SET u.profileImageUrl = :newUrl WHERE u.profileImageUrl = :oldUrl")
+    int replaceProfileImageUrl(@Param("oldUrl") String oldUrl, @Param("newUrl") String newUrl);
+
+    // 프로필 썸네일 주소 기록
+    @Modifying
+    @Query("UPDATE User u SET u.profileThumbnailUrl = :thumbnailUrl WHERE u.profileImageUrl = :imageUrl")
+    int updateProfileThumbnail(@Param("imageUrl") String imageUrl, @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 중복 확인용 블룸 필터 로딩 (ID 순서로 끊어서 조회)
+    @Query(IDENTITY_SELECT + "WHERE u.id > :afterId ORDER BY u.id")
+    List<UserIdentityView> findIdentitiesAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,74 @@
+package com.game.board_backend.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 한글은 띄어쓰기/조사 때문에 단어 단위로 자르면 검색이 잘 안 돼서 글자 2개씩(bigram) 자름
+// 예) "게임공략" -> 게임, 임공, 공략 (+ 한 글자 검색용으로 게, 임, 공, 략)
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    // 문서 색인용 (토큰 -> 등장 횟수)
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                frequencies.merge(word.substring(i, i + 1), 1, Integer::sum);
+                if (i + 1 < word.length()) {
+                    frequencies.merge(word.substring(i, i + 2), 1, Integer::sum);
+                }
+            }
+        }
+
+        return frequencies;
+    }
+
+    // 검색어용 (두 글자 이상은 bigram만, 한 글자 단어는 그 글자 그대로)
+    public static Set<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            if (word.length() == 1) {
+                terms.add(word);
+                continue;
+            }
+
+            for (int i = 0; i + 1 < word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+
+        return terms;
+    }
+
+    // 글자/숫자가 아닌 문자를 기준으로 단어 분리, 영문은 소문자로 통일
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        StringBuilder current = new StringBuilder();
+        String normalized = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                current.append(ch);
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+
+        return words;
+    }
+}
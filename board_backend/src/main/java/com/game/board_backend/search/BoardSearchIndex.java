@@ -0,0 +1,192 @@
+package com.game.board_backend.search;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시글 검색용 역색인 (메모리)
+// 토큰 -> (게시글 ID -> 가중치 적용된 등장 횟수)
+// LIKE '%검색어%' 풀스캔 대신 사용, BoardService에서 작성/수정/삭제 시 갱신
+@Component
+public class BoardSearchIndex {
+
+    // 제목에 나온 토큰은 본문보다 가중치를 높게
+    private static final int TITLE_WEIGHT = 3;
+    // 최신 글 가산점이 절반으로 줄어드는 기간
+    private static final double RECENCY_HALF_LIFE_DAYS = 7.0;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 게시글 색인 (이미 있으면 교체)
+    public void index(Long boardId, String title, String content, LocalDateTime createdAt) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        BigramTokenizer.termFrequencies(title)
+                .forEach((term, count) -> frequencies.merge(term, count * TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.termFrequencies(content)
+                .forEach((term, count) -> frequencies.merge(term, count, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(boardId);
+            frequencies.forEach((term, count) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(boardId, count));
+            documents.put(boardId, new Document(createdAt, frequencies.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시글 색인 삭제
+    public void remove(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 전체 비우기 (재색인 전에 사용)
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 관련도순 검색 (등장 횟수 + 최신 가산점)
+     * @return 해당 페이지의 게시글 ID 목록과 전체 검색 결과 수
+     */
+    public Hits search(String keyword, int offset, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = match(BigramTokenizer.queryTerms(keyword));
+
+            List<Long> ids = scores.keySet().stream()
+                    .map(id -> Map.entry(id, scores.get(id) * recencyBoost(documents.get(id).createdAt(), now)))
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            return new Hits(ids, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 최신순 검색 (커서 페이징용)
+     * (createdAt, id)가 커서보다 앞선 게시글만 최대 limit개
+     */
+    public List<Long> searchAfter(String keyword, LocalDateTime createdAt, Long id, int limit) {
+        Comparator<Map.Entry<Long, Document>> newestFirst = Comparator
+                .comparing((Map.Entry<Long, Document> entry) -> entry.getValue().createdAt())
+                .thenComparing(Map.Entry::getKey)
+                .reversed();
+
+        lock.readLock().lock();
+        try {
+            return match(BigramTokenizer.queryTerms(keyword)).keySet().stream()
+                    .map(boardId -> Map.entry(boardId, documents.get(boardId)))
+                    .filter(entry -> isBefore(entry.getValue().createdAt(), entry.getKey(), createdAt, id))
+                    .sorted(newestFirst)
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 모든 검색 토큰을 포함하는 게시글과 점수 (AND 검색)
+    private Map<Long, Double> match(Set<String> terms) {
+        if (terms.isEmpty()) {
+            return Map.of();
+        }
+
+        // 게시글 수가 가장 적은 토큰부터 교집합
+        List<Map<Long, Integer>> termPostings = new ArrayList<>();
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                return Map.of();
+            }
+            termPostings.add(posting);
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        Map<Long, Double> scores = new HashMap<>();
+        candidates:
+        for (Long boardId : termPostings.get(0).keySet()) {
+            double score = 0;
+            for (Map<Long, Integer> posting : termPostings) {
+                Integer frequency = posting.get(boardId);
+                if (frequency == null) {
+                    continue candidates;
+                }
+                score += 1 + Math.log(frequency);
+            }
+            scores.put(boardId, score);
+        }
+
+        return scores;
+    }
+
+    private void removeInternal(Long boardId) {
+        Document previous = documents.remove(boardId);
+        if (previous == null) {
+            return;
+        }
+
+        for (String term : previous.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(boardId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // 1 ~ 2배 (방금 쓴 글이 2배, 오래될수록 1배에 가까워짐)
+    private double recencyBoost(LocalDateTime createdAt, LocalDateTime now) {
+        double ageDays = Math.max(0, Duration.between(createdAt, now).toMinutes() / (60.0 * 24));
+        return 1 + Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+    }
+
+    private boolean isBefore(LocalDateTime createdAt, Long boardId, LocalDateTime cursorCreatedAt, Long cursorId) {
+        int compared = createdAt.compareTo(cursorCreatedAt);
+        return compared < 0 || (compared == 0 && boardId < cursorId);
+    }
+
+    // 색인된 게시글 정보 (삭제 시 어떤 토큰에서 빼야하는지 알기 위해 토큰 목록도 보관)
+    private record Document(LocalDateTime createdAt, Set<String> terms) { }
+
+    // 검색 결과
+    public record Hits(List<Long> ids, long total) { }
+}
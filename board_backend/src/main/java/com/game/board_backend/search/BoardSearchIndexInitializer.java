@@ -0,0 +1,46 @@
+package com.game.board_backend.search;
+
+import com.game.board_backend.repository.BoardRepository;
+import com.game.board_backend.repository.BoardSearchView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 서버 시작 시 DB의 게시글로 검색 색인 재생성
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndexInitializer implements CommandLineRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final BoardRepository boardRepository;
+    private final BoardSearchIndex boardSearchIndex;
+
+    @Override
+    public void run(String... args) {
+        rebuild();
+    }
+
+    // 전체 재색인 (ID 순서로 BATCH_SIZE개씩 끊어서 읽음)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        boardSearchIndex.clear();
+
+        long lastId = 0L;
+        List<BoardSearchView> batch;
+        do {
+            batch = boardRepository.findSearchViewsAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+            for (BoardSearchView view : batch) {
+                boardSearchIndex.index(view.getId(), view.getTitle(), view.getContent(), view.getCreatedAt());
+                lastId = view.getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        log.info("검색 색인 생성: 게시글 {}개 ({}ms)", boardSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+}
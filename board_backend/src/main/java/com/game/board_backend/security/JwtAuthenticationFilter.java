@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -13,13 +14,23 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    // 정적 파일 경로 (인증 정보가 필요 없어서 토큰 확인 생략)
+    private static final List<String> STATIC_PATH_PREFIXES = List.of("/images/", "/profiles/");
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return STATIC_PATH_PREFIXES.stream().anyMatch(path::startsWith);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -27,11 +38,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Authorization 헤더에서 JWT 토큰 추출
             String token = getJwtFromRequest(request);
 
-            // 토큰을 검증하고 인증 정보를 설정
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            // 토큰을 검증하고 인증 정보를 설정 (최근에 검증한 토큰이면 캐시에서)
+            // 권한 변경 등으로 토큰 버전이 올라갔으면 이전 토큰은 무시
+            VerifiedToken verified = StringUtils.hasText(token) ? verifiedTokenCache.verify(token) : null;
+            if (verified != null && tokenVersionRegistry.isCurrent(verified.userId(), verified.tokenVersion())) {
+                Long userId = verified.userId();
+                List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + verified.role().name()));
 
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userId, null, authorities);
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -1,7 +1,9 @@
 package com.game.board_backend.security;
 
+import com.game.board_backend.model.UserRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -14,8 +16,13 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final String ROLE_CLAIM = "role";
+    private static final String VERSION_CLAIM = "ver";
+
     private final SecretKey secretKey;
     private final long expirationTime;
+    // 파서는 스레드 안전해서 한번만 만들어서 재사용
+    private final JwtParser parser;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
@@ -23,44 +30,71 @@ public class JwtTokenProvider {
     ) {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
         this.expirationTime = expirationTime;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     // JWT 토큰 생성
-    public String createToken(Long userId, String userIdStr) {
+    // 권한과 토큰 버전을 같이 넣어서 요청마다 DB에서 권한을 조회하지 않게 함
+    public String createToken(Long userId, String userIdStr, UserRole role, long tokenVersion) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationTime);
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))    // userId를 subject에 저장
                 .claim("userId", userIdStr)      // 로그인 ID도 저장
+                .claim(ROLE_CLAIM, role.name())
+                .claim(VERSION_CLAIM, tokenVersion)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
                 .compact();
     }
 
+    /**
+     * 서명, 만료 검증과 클레임 추출을 한번에
+     * @return 유효하지 않거나 만료 시각이 없는 토큰이면 null
+     */
+    public VerifiedToken verify(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            // 만료 시각이 없는 토큰은 유효하지 않은 것으로 처리 (검증 캐시 유지 시간도 만료 시각 기준)
+            if (claims.getExpiration() == null) {
+                return null;
+            }
+
+            return new VerifiedToken(
+                    Long.parseLong(claims.getSubject()),
+                    roleOf(claims),
+                    versionOf(claims),
+                    claims.getExpiration().toInstant()
+            );
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 권한 정보가 없는 이전 토큰은 일반 유저로
+    private UserRole roleOf(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        return role != null ? UserRole.valueOf(role) : UserRole.USER;
+    }
+
+    private long versionOf(Claims claims) {
+        Number version = claims.get(VERSION_CLAIM, Number.class);
+        return version != null ? version.longValue() : 0L;
+    }
+
     // 토큰에서 userId를 추출
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
 
         return Long.parseLong(claims.getSubject());
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return verify(token) != null;
     }
 }
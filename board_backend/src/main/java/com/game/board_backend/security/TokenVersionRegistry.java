@@ -0,0 +1,47 @@
+package com.game.board_backend.security;
+
+import com.game.board_backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 유저별 현재 토큰 버전 (메모리)
+// 권한 변경, 회원 탈퇴 시 버전을 올려서 그 전에 발급된 토큰을 요청마다 DB 조회 없이 거부
+// 버전이 바뀐 적 없는 유저는 저장하지 않음 (대부분의 유저는 버전 0)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    // 서버 시작 시 버전이 바뀐 유저만 로딩
+    @PostConstruct
+    public void load() {
+        userRepository.findByTokenVersionGreaterThan(0L)
+                .forEach(user -> versions.put(user.getId(), user.getTokenVersion()));
+        log.info("토큰 버전 로딩: {}명", versions.size());
+    }
+
+    // 토큰의 버전이 현재 버전 이상이면 유효
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        Long current = versions.get(userId);
+        return current == null || tokenVersion >= current;
+    }
+
+    // 권한 변경 커밋 후 호출
+    public void update(Long userId, long tokenVersion) {
+        versions.merge(userId, tokenVersion, Math::max);
+    }
+
+    // 회원 탈퇴: 그 유저의 토큰은 전부 거부
+    public void revoke(Long userId) {
+        versions.put(userId, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,13 @@
+package com.game.board_backend.security;
+
+import com.game.board_backend.model.UserRole;
+
+import java.time.Instant;
+
+// 서명 검증이 끝난 토큰에서 꺼낸 정보
+public record VerifiedToken(Long userId, UserRole role, long tokenVersion, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,77 @@
+package com.game.board_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+// 최근에 검증한 토큰 캐시
+// 같은 클라이언트가 같은 토큰으로 계속 요청하면 HMAC 검증, JSON 파싱 없이 캐시에서 꺼냄
+// 토큰 원문 대신 SHA-256 해시를 키로 저장하고, 토큰 만료 시각이 지나면 캐시에서도 사라짐
+// 검증에 실패한 토큰은 넣지 않음 (잘못된 토큰으로 캐시를 채우지 못하게)
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedToken> tokens;
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.ttl:300000}") long ttlMillis
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+
+        Duration ttl = Duration.ofMillis(ttlMillis);
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) -> {
+                    Duration untilExpiry = Duration.between(Instant.now(), token.expiresAt());
+                    return untilExpiry.compareTo(ttl) < 0 ? untilExpiry : ttl;
+                }))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "verifiedToken");
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 검증 후 저장
+     * @return 유효하지 않거나 만료된 토큰이면 null
+     */
+    public VerifiedToken verify(String token) {
+        String key = hash(token);
+
+        VerifiedToken cached = tokens.getIfPresent(key);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+        if (verified != null) {
+            tokens.put(key, verified);
+        }
+
+        return verified;
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.game.board_backend.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 문자열 집합용 블룸 필터
+// "없다"는 답은 항상 정확하고, "있을 수도 있다"는 답은 오탐률(fpp) 만큼 틀릴 수 있음
+// 값 제거는 지원하지 않음 (지워진 값은 오탐으로 남음)
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 넣을 것으로 예상되는 값 개수
+     * @param fpp 목표 오탐률 (예: 0.01 = 1%)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다: " + fpp);
+        }
+
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = 64L * wordCount;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = HyperLogLog.hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = HyperLogLog.hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // 대략적인 메모리 사용량
+    public long sizeInBytes() {
+        return 8L * words.length();
+    }
+}
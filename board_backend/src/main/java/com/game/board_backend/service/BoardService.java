@@ -1,16 +1,37 @@
 package com.game.board_backend.service;
 
+import com.game.board_backend.cache.BoardDetailCache;
+import com.game.board_backend.cache.BoardListVersion;
+import com.game.board_backend.cache.LikedBoardCache;
+import com.game.board_backend.dto.BoardCursor;
 import com.game.board_backend.dto.BoardDto;
+import com.game.board_backend.dto.BoardVersion;
+import com.game.board_backend.dto.CursorPage;
 import com.game.board_backend.model.*;
 import com.game.board_backend.repository.*;
+import com.game.board_backend.search.BoardSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,14 +40,25 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BoardService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int LIKE_TOGGLE_ATTEMPTS = 3;
+
     private final BoardRepository boardRepository;
     private final BoardImageRepository boardImageRepository;
-    private final CommentRepository commentRepository;
     private final BoardLikeRepository boardLikeRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final BoardSearchIndex boardSearchIndex;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final LikedBoardCache likedBoardCache;
+    private final BoardDetailCache boardDetailCache;
+    private final ImageVariantService imageVariantService;
+    private final BoardListVersion boardListVersion;
 
     // 게시글 작성
+    @Transactional
     public BoardDto.Response createBoard(BoardDto.Create dto, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 아이디입니다."));
@@ -38,6 +70,11 @@ public class BoardService {
         board.setUser(user);
         board.setViewCount(0L);
         board.setLikeCount(0L);
+        board.setCommentCount(0L);
+
+        // 업로드 후 이미 만들어진 줄인 이미지 주소
+        Map<String, ImageVariants> variants = imageVariantService.findVariants(dto.getImageUrls());
+        board.setThumbnailUrl(thumbnailUrl(dto.getImageUrls(), variants));
 
         // 카테고리 설정
         if (dto.getCategoryId() != null) {
@@ -48,72 +85,112 @@ public class BoardService {
         }
 
         Board savedBoard = boardRepository.save(board);
+        AfterCommit.run(() -> {
+            boardSearchIndex.index(savedBoard.getId(), savedBoard.getTitle(), savedBoard.getContent(), savedBoard.getCreatedAt());
+            boardListVersion.bump();
+        });
 
-        // 이미지 저장
-        List<BoardDto.ImageInfo> imageInfos = List.of();
-        if (dto.getImageUrls() != null && !dto.getImageUrls().isEmpty()) {
+        // 이미지 저장 (한번의 배치 INSERT)
+        List<BoardImage> images = new ArrayList<>();
+        if (dto.getImageUrls() != null) {
             for (int i = 0; i < dto.getImageUrls().size(); i++) {
-                BoardImage image = new BoardImage();
-
-                image.setBoard(savedBoard);
-                image.setImageUrl(dto.getImageUrls().get(i));
-                image.setOrderIndex(i);
-                boardImageRepository.save(image);
+                images.add(newImage(savedBoard, dto.getImageUrls().get(i), i, variants));
             }
-            imageInfos = getImageInfos(savedBoard.getId());
         }
+        List<BoardDto.ImageInfo> imageInfos = toImageInfos(boardImageRepository.saveAll(images));
 
-        return new BoardDto.Response(savedBoard, false, 0L, imageInfos);
+        return new BoardDto.Response(new BoardDto.Detail(savedBoard, imageInfos), 0L, 0L, false);
     }
 
     // 게시글 상세 조회(조회수 증가)
-    @Transactional
-    public BoardDto.Response getBoard(Long boardId, Long currentUserId, boolean incrementView) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+    // 조회수는 ViewCountBuffer에 모아서 반영하므로 읽기 전용 트랜잭션으로 실행
+    // 게시글 본문, 작성자, 이미지는 상세 캐시에서 (캐시에 없을 때만 DB 조회)
+    public BoardDto.Response getBoard(Long boardId, Long currentUserId, String viewerKey, boolean incrementView) {
+        BoardDto.Detail detail = boardDetailCache.get(boardId, this::loadDetail);
 
         // 조회수 증가
         if (incrementView) {
-            board.increaseViewCount();
+            recordView(boardId, viewerKey);
         }
 
-        // 이미지 목록
-        List<BoardDto.ImageInfo> imageInfos = getImageInfos(boardId);
+        // 좋아요 여부 (유저별 비트맵 캐시)
+        boolean isLiked = likedBoardCache.isLiked(currentUserId, boardId);
+
+        return new BoardDto.Response(detail, viewCountBuffer.viewCount(boardId),
+                uniqueViewerCounter.estimate(boardId), isLiked);
+    }
+
+    // 조회수, 고유 조회자 반영 (304 응답일 때도 조회로 침)
+    public void recordView(Long boardId, String viewerKey) {
+        viewCountBuffer.increment(boardId);
+        uniqueViewerCounter.offer(boardId, viewerKey);
+    }
+
+    // 게시글 상세 버전 (조건부 GET용, 본문/이미지는 읽지 않음)
+    // 상세 캐시에 있으면 DB 조회 없이, 없으면 버전 컬럼만 조회
+    public BoardVersion getBoardVersion(Long boardId, Long currentUserId) {
+        boolean isLiked = likedBoardCache.isLiked(currentUserId, boardId);
 
-        // 댓글 개수
-        long commentCount = commentRepository.countByBoardId(boardId);
+        BoardDto.Detail cached = boardDetailCache.getIfPresent(boardId);
+        if (cached != null) {
+            return BoardVersion.of(cached, isLiked);
+        }
 
-        // 좋아요 여부
-        boolean isLiked = currentUserId != null &&
-                boardLikeRepository.existsByBoardIdAndUserId(boardId, currentUserId);
+        return boardRepository.findVersionById(boardId)
+                .map(view -> BoardVersion.of(view, isLiked))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+    }
 
-        return new BoardDto.Response(board, isLiked, commentCount, imageInfos);
+    // 게시글 목록 약한 ETag (목록 버전이 그대로면 DB 조회 없이 304)
+    public String getListEtag(Long currentUserId) {
+        return boardListVersion.etag(currentUserId);
     }
 
     // 게시글 목록 조회(페이징)
-    public Page<BoardDto.ListItem> getBoardList(Pageable pageable) {
-        Page<Board> boards = boardRepository.findAllByOrderByCreatedAtDesc(pageable);
+    public Page<BoardDto.ListItem> getBoardList(Pageable pageable, Long currentUserId) {
+        return toListItemPage(boardRepository.findListItems(unsorted(pageable)), currentUserId);
+    }
 
-        return boards.map(board -> {
-            long commentCount = commentRepository.countByBoardId(board.getId());
-            BoardImage thumbnail = boardImageRepository.findFirstByBoardIdOrderByOrderIndexAsc(board.getId());
-            String thumbnailUrl = thumbnail != null ? thumbnail.getImageUrl() : null;
+    // 게시글 검색
+    public Page<BoardDto.ListItem> searchBoards(String keyword, Pageable pageable, Long currentUserId) {
+        BoardSearchIndex.Hits hits = boardSearchIndex.search(
+                keyword, (int) pageable.getOffset(), pageable.getPageSize());
 
-            return new BoardDto.ListItem(board, commentCount, thumbnailUrl);
-        });
+        return new PageImpl<>(findListItemsInOrder(hits.ids(), currentUserId), pageable, hits.total());
     }
 
-    // 게시글 검색
-    public Page<BoardDto.ListItem> searchBoards(String keyword, Pageable pageable) {
-        Page<Board> boards = boardRepository.searchByTitleOrContent(keyword, pageable);
+    // 게시글 목록 조회(커서)
+    public CursorPage<BoardDto.ListItem> getBoardListByCursor(String after, int size, Long currentUserId) {
+        BoardCursor cursor = BoardCursor.decode(after);
 
-        return boards.map(board -> {
-            long commentCount = commentRepository.countByBoardId(board.getId());
-            BoardImage thumbnail = boardImageRepository.findFirstByBoardIdOrderByOrderIndexAsc(board.getId());
-            String thumbnailUrl = thumbnail != null ? thumbnail.getImageUrl() : null;
+        return toCursorPage(boardRepository.findListItemsAfter(
+                cursor.createdAt(), cursor.id(), cursorPageable(size)), currentUserId);
+    }
 
-            return new BoardDto.ListItem(board, commentCount, thumbnailUrl);
-        });
+    // 게시글 검색(커서)
+    public CursorPage<BoardDto.ListItem> searchBoardsByCursor(String keyword, String after, int size, Long currentUserId) {
+        BoardCursor cursor = BoardCursor.decode(after);
+
+        int pageSize = cursorPageSize(size);
+
+        // 다음 페이지가 있는지 알기 위해 1개 더 조회
+        List<Long> ids = boardSearchIndex.searchAfter(keyword, cursor.createdAt(), cursor.id(), pageSize + 1);
+        boolean hasNext = ids.size() > pageSize;
+
+        return toCursorPage(findListItemsInOrder(ids.subList(0, Math.min(ids.size(), pageSize)), currentUserId), hasNext);
+    }
+
+    // 특정 유저가 작성한 게시글 목록 조회(커서, 최신순)
+    // (user_id, created_at, id) 인덱스로 탐색
+    public CursorPage<BoardDto.ListItem> getBoardsByUserByCursor(Long userId, String after, int size, Long currentUserId) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+
+        BoardCursor cursor = BoardCursor.decode(after);
+
+        return toCursorPage(boardRepository.findListItemsByUserIdAfter(
+                userId, cursor.createdAt(), cursor.id(), cursorPageable(size)), currentUserId);
     }
 
     // 게시글 수정
@@ -130,26 +207,37 @@ public class BoardService {
         // 게시글 수정
         board.setTitle(dto.getTitle());
         board.setContent(dto.getContent());
+        Map<String, ImageVariants> variants = imageVariantService.findVariants(dto.getImageUrls());
+        board.setThumbnailUrl(thumbnailUrl(dto.getImageUrls(), variants));
+        // 이미지만 바꾼 경우에도 수정 시각이 바뀌게 (상세 ETag에 사용)
+        board.setUpdatedAt(LocalDateTime.now());
+        AfterCommit.run(() -> {
+            boardSearchIndex.index(boardId, dto.getTitle(), dto.getContent(), board.getCreatedAt());
+            boardDetailCache.invalidate(boardId);
+            boardListVersion.bump();
+        });
 
-        // 기존 이미지 삭제 후 새로 저장
-        boardImageRepository.deleteByBoardId(boardId);
+        // 기존 이미지와 비교해서 빠진 것만 삭제, 남는 것은 순서만 수정, 새 이미지는 배치 INSERT
+        ImageListDiff<BoardImage> diff = ImageListDiff.of(
+                boardImageRepository.findByBoardIdOrderByOrderIndexAsc(boardId), dto.getImageUrls(),
+                BoardImage::getImageUrl, BoardImage::getOrderIndex, BoardImage::setOrderIndex);
 
-        List<BoardDto.ImageInfo> imageInfos = List.of();
-        if (dto.getImageUrls() != null && !dto.getImageUrls().isEmpty()) {
-            for (int i = 0; i < dto.getImageUrls().size(); i++) {
-                BoardImage image = new BoardImage();
-                image.setBoard(board);
-                image.setImageUrl(dto.getImageUrls().get(i));
-                image.setOrderIndex(i);
-                boardImageRepository.save(image);
-            }
-            imageInfos = getImageInfos(boardId);
+        if (!diff.removed().isEmpty()) {
+            boardImageRepository.deleteAllInBatch(diff.removed());
         }
 
-        long commentCount = commentRepository.countByBoardId(boardId);
-        boolean isLiked = boardLikeRepository.existsByBoardIdAndUserId(boardId, userId);
+        List<BoardImage> images = new ArrayList<>(diff.kept());
+        images.addAll(boardImageRepository.saveAll(diff.added().stream()
+                .map(added -> newImage(board, added.imageUrl(), added.orderIndex(), variants))
+                .toList()));
+        images.sort(Comparator.comparing(BoardImage::getOrderIndex));
 
-        return new BoardDto.Response(board, isLiked, commentCount, imageInfos);
+        List<BoardDto.ImageInfo> imageInfos = toImageInfos(images);
+
+        boolean isLiked = likedBoardCache.isLiked(userId, boardId);
+
+        return new BoardDto.Response(new BoardDto.Detail(board, imageInfos), viewCountBuffer.viewCount(boardId),
+                uniqueViewerCounter.estimate(boardId), isLiked);
     }
 
     // 게시글 삭제
@@ -165,60 +253,180 @@ public class BoardService {
 
         // Cascade로 댓글, 이미지, 좋아요 자동 삭제
         boardRepository.delete(board);
+        AfterCommit.run(() -> {
+            boardSearchIndex.remove(boardId);
+            uniqueViewerCounter.remove(boardId);
+            boardDetailCache.invalidate(boardId);
+            boardListVersion.bump();
+        });
     }
 
     // 좋아요 토글
-    @Transactional
+    // 엔티티를 읽지 않고 삭제/추가 쿼리의 결과 행 수로 판단, 좋아요 수는 UPDATE 쿼리로 증감
+    // 같은 유저가 동시에 누르면 UNIQUE 제약이나 락 충돌이 날 수 있어서 새 트랜잭션으로 다시 시도
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean toggleLike(Long boardId, Long userId) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                boolean liked = Boolean.TRUE.equals(transactionTemplate.execute(status -> toggleLikeOnce(boardId, userId)));
+                likedBoardCache.update(userId, boardId, liked);
+                boardDetailCache.invalidate(boardId);
+                boardListVersion.bump();
+                return liked;
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (attempt >= LIKE_TOGGLE_ATTEMPTS) {
+                    throw new IllegalArgumentException("좋아요 처리에 실패했습니다. 다시 시도해주세요.");
+                }
+                log.debug("좋아요 토글 충돌, 다시 시도 (게시글 {}, 유저 {})", boardId, userId);
+            }
+        }
+    }
 
+    private boolean toggleLikeOnce(Long boardId, Long userId) {
         // 이미 좋아요 했으면 취소
-        if (boardLikeRepository.existsByBoardIdAndUserId(boardId, userId)){
-            boardLikeRepository.deleteByBoardIdAndUserId(boardId, userId);
-            board.decreaseLikeCount();
+        if (boardLikeRepository.deleteByBoardIdAndUserId(boardId, userId) > 0) {
+            boardRepository.decreaseLikeCount(boardId);
             return false;
         }
-        // 좋아요 추가
-        else {
-            BoardLike like = new BoardLike();
-            like.setBoard(board);
-            like.setUser(user);
-            boardLikeRepository.save(like);
-            board.increaseLikeCount();
-            return true;
+
+        // 좋아요 추가 (게시글이 없거나, 같은 유저의 동시 요청이 먼저 추가했으면 0)
+        if (boardLikeRepository.insertIfAbsent(boardId, userId) == 0) {
+            if (!boardRepository.existsById(boardId)) {
+                throw new IllegalArgumentException("존재하지 않는 게시글입니다.");
+            }
+            // 같은 유저의 다른 요청이 먼저 좋아요 함, 다시 시도해서 취소 쪽으로 처리 (두 번 누르면 서로 상쇄)
+            throw new ConcurrencyFailureException("좋아요 동시 추가 (게시글 " + boardId + ", 유저 " + userId + ")");
         }
+        boardRepository.increaseLikeCount(boardId);
+        return true;
+    }
+
+    // 상세 캐시에 넣을 게시글 정보 (캐시 미스일 때만 호출)
+    private BoardDto.Detail loadDetail(Long boardId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+
+        return new BoardDto.Detail(board, getImageInfos(boardId));
     }
 
     // 이미지 정보 조회
     public List<BoardDto.ImageInfo> getImageInfos(Long boardId) {
-        List<BoardImage> images = boardImageRepository.findByBoardIdOrderByOrderIndexAsc(boardId);
+        return toImageInfos(boardImageRepository.findByBoardIdOrderByOrderIndexAsc(boardId));
+    }
 
+    private List<BoardDto.ImageInfo> toImageInfos(List<BoardImage> images) {
         return images.stream()
                 .map(img -> new BoardDto.ImageInfo(
                         img.getId(),
                         img.getImageUrl(),
+                        img.getMediumUrl() != null ? img.getMediumUrl() : img.getImageUrl(),
                         img.getOriginalFileName(),
                         img.getOrderIndex()
                 ))
                 .collect(Collectors.toList());
     }
 
+    private BoardImage newImage(Board board, String imageUrl, int orderIndex, Map<String, ImageVariants> variants) {
+        ImageVariants variant = variants.getOrDefault(imageUrl, ImageVariants.NONE);
+
+        BoardImage image = new BoardImage();
+        image.setBoard(board);
+        image.setImageUrl(imageUrl);
+        image.setThumbnailUrl(variant.thumbnailUrl());
+        image.setMediumUrl(variant.mediumUrl());
+        image.setOrderIndex(orderIndex);
+        return image;
+    }
+
     // 카테고리별 게시글 목록 조회
-    public Page<BoardDto.ListItem> getBoardsByCategory(Long categoryId, Pageable pageable) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
+    public Page<BoardDto.ListItem> getBoardsByCategory(Long categoryId, Pageable pageable, Long currentUserId) {
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다.");
+        }
 
-        Page<Board> boards = boardRepository.findByCategoryIdOrderByCreatedAtDesc(categoryId, pageable);
+        return toListItemPage(boardRepository.findListItemsByCategoryId(categoryId, unsorted(pageable)), currentUserId);
+    }
 
-        return boards.map(board -> {
-            long commentCount = commentRepository.countByBoardId(board.getId());
-            BoardImage thumbnail = boardImageRepository.findFirstByBoardIdOrderByOrderIndexAsc(board.getId());
-            String thumbnailUrl = thumbnail != null ? thumbnail.getImageUrl() : null;
-            return new BoardDto.ListItem(board, commentCount, thumbnailUrl);
-        });
+    // 카테고리별 게시글 목록 조회(커서)
+    public CursorPage<BoardDto.ListItem> getBoardsByCategoryByCursor(Long categoryId, String after, int size, Long currentUserId) {
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다.");
+        }
+
+        BoardCursor cursor = BoardCursor.decode(after);
+
+        return toCursorPage(boardRepository.findListItemsByCategoryIdAfter(
+                categoryId, cursor.createdAt(), cursor.id(), cursorPageable(size)), currentUserId);
+    }
+
+    // 커서 페이지 크기 (1 ~ MAX_CURSOR_PAGE_SIZE)
+    private int cursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    private Pageable cursorPageable(int size) {
+        return PageRequest.of(0, cursorPageSize(size));
+    }
+
+    private CursorPage<BoardDto.ListItem> toCursorPage(Slice<BoardListView> slice, Long currentUserId) {
+        return toCursorPage(toListItems(slice.getContent(), currentUserId), slice.hasNext());
+    }
+
+    // 마지막 항목 위치를 다음 커서로 사용
+    private CursorPage<BoardDto.ListItem> toCursorPage(List<BoardDto.ListItem> items, boolean hasNext) {
+        String nextCursor = null;
+        if (hasNext && !items.isEmpty()) {
+            BoardDto.ListItem last = items.get(items.size() - 1);
+            nextCursor = new BoardCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+
+    private Page<BoardDto.ListItem> toListItemPage(Page<BoardListView> page, Long currentUserId) {
+        return new PageImpl<>(toListItems(page.getContent(), currentUserId), page.getPageable(), page.getTotalElements());
+    }
+
+    // 목록 항목 (DB 조회수 + 아직 반영 안 된 조회수, 좋아요 여부는 비트맵 캐시에서 한번에)
+    private List<BoardDto.ListItem> toListItems(List<BoardListView> views, Long currentUserId) {
+        Set<Long> liked = likedBoardCache.likedAmong(currentUserId,
+                views.stream().map(BoardListView::getId).toList());
+
+        return views.stream()
+                .map(view -> new BoardDto.ListItem(
+                        view, viewCountBuffer.pendingCount(view.getId()), liked.contains(view.getId())))
+                .collect(Collectors.toList());
+    }
+
+    // 검색 색인에서 나온 ID 순서대로 목록 조회 (한번의 IN 쿼리)
+    // 색인 갱신 전에 삭제된 게시글은 결과에서 빠짐
+    private List<BoardDto.ListItem> findListItemsInOrder(List<Long> ids, Long currentUserId) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BoardListView> views = boardRepository.findListItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(BoardListView::getId, Function.identity()));
+
+        return toListItems(ids.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .toList(), currentUserId);
+    }
+
+    // 첫 번째 이미지 (썸네일 크기로 줄인 이미지가 있으면 그 주소, 없으면 완료될 때 ImageVariantService가 교체)
+    private String thumbnailUrl(List<String> imageUrls, Map<String, ImageVariants> variants) {
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return null;
+        }
+
+        String first = imageUrls.get(0);
+        ImageVariants variant = variants.getOrDefault(first, ImageVariants.NONE);
+        return variant.thumbnailUrl() != null ? variant.thumbnailUrl() : first;
+    }
+
+    // 목록 쿼리는 정렬이 고정(최신순)이라 Pageable의 정렬 조건은 제외
+    private Pageable unsorted(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
     }
 }
@@ -0,0 +1,70 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.cache.BoardDetailCache;
+import com.game.board_backend.cache.BoardListVersion;
+import com.game.board_backend.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 게시글에 비정규화된 댓글 수, 썸네일 주소를 실제 값과 비교해서 보정
+// (회원 탈퇴로 댓글이 DB CASCADE 삭제되는 경우처럼 서비스 로직을 거치지 않는 변경 대비)
+@Slf4j
+@Component
+public class BoardStatsReconciler {
+
+    private final BoardRepository boardRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardListVersion boardListVersion;
+    private final int batchSize;
+
+    public BoardStatsReconciler(
+            BoardRepository boardRepository,
+            BoardDetailCache boardDetailCache,
+            BoardListVersion boardListVersion,
+            @Value("${board.reconcile.batch-size:500}") int batchSize
+    ) {
+        this.boardRepository = boardRepository;
+        this.boardDetailCache = boardDetailCache;
+        this.boardListVersion = boardListVersion;
+        this.batchSize = batchSize;
+    }
+
+    // 주기적으로 전체 게시글을 ID 범위 단위로 나눠서 보정
+    @Scheduled(
+            initialDelayString = "${board.reconcile.interval:600000}",
+            fixedDelayString = "${board.reconcile.interval:600000}"
+    )
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 댓글 수, 썸네일 보정
+     * @return 보정된 행 수 (댓글 수 + 썸네일)
+     */
+    public int reconcile() {
+        long maxId = boardRepository.findMaxId();
+        int commentCountFixed = 0;
+        int thumbnailFixed = 0;
+
+        // 배치마다 별도 트랜잭션으로 실행해서 락 잡는 범위를 작게 유지
+        for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+            long toId = fromId + batchSize;
+            commentCountFixed += boardRepository.reconcileCommentCount(fromId, toId);
+            thumbnailFixed += boardRepository.reconcileThumbnailUrl(fromId, toId);
+        }
+
+        if (commentCountFixed > 0 || thumbnailFixed > 0) {
+            log.warn("게시글 통계 보정: 댓글 수 {}건, 썸네일 {}건", commentCountFixed, thumbnailFixed);
+            // 어느 글이 바뀌었는지 모르므로 상세 캐시 전체 비움
+            boardDetailCache.invalidateAll();
+            boardListVersion.bump();
+        } else {
+            log.debug("게시글 통계 보정: 변경 없음 (maxId: {})", maxId);
+        }
+
+        return commentCountFixed + thumbnailFixed;
+    }
+}
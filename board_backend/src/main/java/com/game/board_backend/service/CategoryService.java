@@ -1,5 +1,9 @@
 package com.game.board_backend.service;
 
+import com.game.board_backend.cache.BoardDetailCache;
+import com.game.board_backend.cache.BoardListVersion;
+import com.game.board_backend.cache.CategorySnapshot;
+import com.game.board_backend.cache.CategorySnapshotCache;
 import com.game.board_backend.dto.CategoryDto;
 import com.game.board_backend.model.Category;
 import com.game.board_backend.repository.CategoryRepository;
@@ -8,7 +12,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 // 카테고리 생성, 수정, 삭제는 Controller쪽에서 ADMIN 체크 후에 생성 가능하게 만들 예정
 @Service
@@ -16,6 +19,9 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardListVersion boardListVersion;
+    private final CategorySnapshotCache categorySnapshotCache;
 
     // 카테고리 생성
     @Transactional
@@ -31,15 +37,19 @@ public class CategoryService {
         category.setDisplayOrder(dto.getDisplayOrder());
 
         Category savedCategory = categoryRepository.save(category);
+        AfterCommit.run(categorySnapshotCache::refresh);
+
         return new CategoryDto.Response(savedCategory);
     }
 
-    // 카테고리 목록 조회
+    // 카테고리 목록 조회 (DB 대신 스냅샷에서)
     public List<CategoryDto.Response> getAllCategories() {
-        List<Category> categories = categoryRepository.findAllByOrderByDisplayOrderAsc();
-        return categories.stream()
-                .map(CategoryDto.Response::new)
-                .collect(Collectors.toList());
+        return categorySnapshotCache.current().categories();
+    }
+
+    // 카테고리 목록 스냅샷 (미리 직렬화된 본문과 ETag)
+    public CategorySnapshot getCategorySnapshot() {
+        return categorySnapshotCache.current();
     }
 
     // 카테고리 상세 조회
@@ -72,6 +82,13 @@ public class CategoryService {
             category.setDisplayOrder(dto.getDisplayOrder());
         }
 
+        // 게시글 상세에 카테고리 이름이 들어가므로 상세 캐시 비움 (카테고리 변경은 드묾)
+        AfterCommit.run(() -> {
+            boardDetailCache.invalidateAll();
+            boardListVersion.bump();
+            categorySnapshotCache.refresh();
+        });
+
         return new CategoryDto.Response(category);
     }
 
@@ -83,5 +100,10 @@ public class CategoryService {
 
         // 카테고리 삭제 시 해당 카테고리의 게시글들은 category가 null로 설정됨
         categoryRepository.delete(category);
+        AfterCommit.run(() -> {
+            boardDetailCache.invalidateAll();
+            boardListVersion.bump();
+            categorySnapshotCache.refresh();
+        });
     }
 }
@@ -1,19 +1,31 @@
 package com.game.board_backend.service;
 
+import com.game.board_backend.cache.BoardDetailCache;
+import com.game.board_backend.cache.BoardListVersion;
+import com.game.board_backend.config.CommentPageProperties;
+import com.game.board_backend.dto.BoardCursor;
 import com.game.board_backend.dto.CommentDto;
+import com.game.board_backend.dto.CursorPage;
 import com.game.board_backend.model.Board;
 import com.game.board_backend.model.Comment;
 import com.game.board_backend.model.CommentImage;
 import com.game.board_backend.model.User;
 import com.game.board_backend.repository.BoardRepository;
+import com.game.board_backend.repository.CommentActivityView;
 import com.game.board_backend.repository.CommentImageRepository;
 import com.game.board_backend.repository.CommentRepository;
 import com.game.board_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +37,10 @@ public class CommentService {
     private final CommentImageRepository commentImageRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardListVersion boardListVersion;
+    private final CommentPageProperties commentPageProperties;
+    private final ImageVariantService imageVariantService;
 
     // 댓글 쓰기
     @Transactional
@@ -45,37 +61,62 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(comment);
 
-        // 이미지 저장
-        List<CommentDto.ImageInfo> imageInfos = List.of();
-        if (dto.getImageUrls() != null && !dto.getImageUrls().isEmpty()) {
+        // 게시글 댓글 수 증가
+        boardRepository.increaseCommentCount(boardId);
+        AfterCommit.run(() -> {
+            boardDetailCache.invalidate(boardId);
+            boardListVersion.bump();
+        });
+
+        // 이미지 저장 (한번의 배치 INSERT)
+        Map<String, ImageVariants> variants = imageVariantService.findVariants(dto.getImageUrls());
+        List<CommentImage> images = new ArrayList<>();
+        if (dto.getImageUrls() != null) {
             for (int i = 0; i < dto.getImageUrls().size(); i++) {
-                CommentImage image = new CommentImage();
-                image.setComment(savedComment);
-                image.setImageUrl(dto.getImageUrls().get(i));
-                image.setOrderIndex(i);
-                commentImageRepository.save(image);
+                images.add(newImage(savedComment, dto.getImageUrls().get(i), i, variants));
             }
-
-            imageInfos = getImageInfos(savedComment.getId());
         }
+        List<CommentDto.ImageInfo> imageInfos = commentImageRepository.saveAll(images).stream()
+                .map(this::toImageInfo)
+                .collect(Collectors.toList());
 
         return new CommentDto.Response(savedComment, imageInfos);
     }
 
     // 특정 게시글의 댓글 목록 조회
+    // 댓글 + 작성자 한번, 이미지 한번 (댓글 수와 상관없이 쿼리 수 일정)
     public List<CommentDto.Response> getCommentsByBoardId(Long boardId) {
         // 게시글 존재확인
-        boardRepository.findById(boardId)
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("존재하지 않는 게시글 입니다.");
+        }
+
+        return toResponses(commentRepository.findWithUserByBoardId(boardId));
+    }
+
+    // 특정 게시글의 댓글 목록 조회(커서)
+    // (createdAt, id) 위치부터 이어서 조회, 전체 개수는 게시글의 댓글 수 사용
+    public CommentDto.CursorResponse getCommentsByCursor(Long boardId, String after, Integer size, boolean newestFirst) {
+        long totalCount = boardRepository.findCommentCountById(boardId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글 입니다."));
 
-        List<Comment> comments = commentRepository.findByBoardIdOrderByCreatedAtAsc(boardId);
+        BoardCursor cursor = BoardCursor.decode(after, newestFirst ? BoardCursor.FIRST : BoardCursor.EARLIEST);
+        Pageable pageable = PageRequest.of(0, commentPageSize(size));
 
-        return comments.stream()
-                .map(comment -> {
-                    List<CommentDto.ImageInfo> imageInfos = getImageInfos(comment.getId());
-                    return new CommentDto.Response(comment, imageInfos);
-                })
-                .collect(Collectors.toList());
+        Slice<Comment> slice = newestFirst
+                ? commentRepository.findWithUserByBoardIdBefore(boardId, cursor.createdAt(), cursor.id(), pageable)
+                : commentRepository.findWithUserByBoardIdAfter(boardId, cursor.createdAt(), cursor.id(), pageable);
+
+        List<CommentDto.Response> content = toResponses(slice.getContent());
+
+        // 마지막 댓글 위치를 다음 커서로 사용
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            CommentDto.Response last = content.get(content.size() - 1);
+            nextCursor = new BoardCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CommentDto.CursorResponse(content, nextCursor, slice.hasNext(), totalCount);
     }
 
     // 댓글 수정
@@ -93,22 +134,27 @@ public class CommentService {
         // 댓글 내용 수정
         comment.setContent(dto.getContent());
 
-        // 기존 이미지 삭제 후 새로 저장
-        commentImageRepository.deleteByCommentId(commentId);
-
-        List<CommentDto.ImageInfo> imageInfos = List.of();
-        if (dto.getImageUrls() != null && !dto.getImageUrls().isEmpty()) {
-            for (int i = 0; i < dto.getImageUrls().size(); i++) {
-                CommentImage image = new CommentImage();
-                image.setComment(comment);
-                image.setImageUrl(dto.getImageUrls().get(i));
-                image.setOrderIndex(i);
-                commentImageRepository.save(image);
-            }
+        // 기존 이미지와 비교해서 빠진 것만 삭제, 남는 것은 순서만 수정, 새 이미지는 배치 INSERT
+        ImageListDiff<CommentImage> diff = ImageListDiff.of(
+                commentImageRepository.findByCommentIdOrderByOrderIndexAsc(commentId), dto.getImageUrls(),
+                CommentImage::getImageUrl, CommentImage::getOrderIndex, CommentImage::setOrderIndex);
 
-            imageInfos = getImageInfos(commentId);
+        if (!diff.removed().isEmpty()) {
+            commentImageRepository.deleteAllInBatch(diff.removed());
         }
 
+        Map<String, ImageVariants> variants = imageVariantService.findVariants(
+                diff.added().stream().map(ImageListDiff.Added::imageUrl).toList());
+        List<CommentImage> images = new ArrayList<>(diff.kept());
+        images.addAll(commentImageRepository.saveAll(diff.added().stream()
+                .map(added -> newImage(comment, added.imageUrl(), added.orderIndex(), variants))
+                .toList()));
+
+        List<CommentDto.ImageInfo> imageInfos = images.stream()
+                .sorted(Comparator.comparing(CommentImage::getOrderIndex))
+                .map(this::toImageInfo)
+                .collect(Collectors.toList());
+
         return new CommentDto.Response(comment, imageInfos);
     }
 
@@ -126,6 +172,14 @@ public class CommentService {
 
         // Cascade로 이미지 자동 삭제
         commentRepository.delete(comment);
+
+        // 게시글 댓글 수 감소
+        Long boardId = comment.getBoard().getId();
+        boardRepository.decreaseCommentCount(boardId);
+        AfterCommit.run(() -> {
+            boardDetailCache.invalidate(boardId);
+            boardListVersion.bump();
+        });
     }
 
     // 특정 유저가 쓴 댓글 목록 조회
@@ -134,14 +188,31 @@ public class CommentService {
         userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        List<Comment> comments = commentRepository.findByUserId(userId);
+        return toResponses(commentRepository.findWithUserByUserId(userId));
+    }
 
-        return comments.stream()
-                .map(comment -> {
-                    List<CommentDto.ImageInfo> imageInfos = getImageInfos(comment.getId());
-                    return new CommentDto.Response(comment, imageInfos);
-                })
+    // 특정 유저가 작성한 댓글 목록 조회(커서, 최신순)
+    // (user_id, created_at, id) 인덱스로 탐색, 게시글 제목은 같은 쿼리에서 조인
+    public CursorPage<CommentDto.ActivityItem> getCommentsByUserByCursor(Long userId, String after, Integer size) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+
+        BoardCursor cursor = BoardCursor.decode(after);
+        Slice<CommentActivityView> slice = commentRepository.findActivityByUserIdBefore(
+                userId, cursor.createdAt(), cursor.id(), PageRequest.of(0, commentPageSize(size)));
+
+        List<CommentDto.ActivityItem> items = slice.getContent().stream()
+                .map(CommentDto.ActivityItem::new)
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (slice.hasNext() && !items.isEmpty()) {
+            CommentDto.ActivityItem last = items.get(items.size() - 1);
+            nextCursor = new BoardCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPage<>(items, nextCursor, slice.hasNext());
     }
 
     // 이미지 정보 조회
@@ -149,12 +220,64 @@ public class CommentService {
         List<CommentImage> images = commentImageRepository.findByCommentIdOrderByOrderIndexAsc(commentId);
 
         return images.stream()
-                .map(img -> new CommentDto.ImageInfo(
-                        img.getId(),
-                        img.getImageUrl(),
-                        img.getOriginalFileName(),
-                        img.getOrderIndex()
-                ))
+                .map(this::toImageInfo)
                 .collect(Collectors.toList());
     }
+
+    // 페이지 크기 (없으면 기본값, 최대 maxPageSize)
+    private int commentPageSize(Integer size) {
+        int requested = size != null ? size : commentPageProperties.getDefaultPageSize();
+        return Math.max(1, Math.min(requested, commentPageProperties.getMaxPageSize()));
+    }
+
+    // 댓글 목록 응답 (이미지는 IN 쿼리 한번으로 읽어서 댓글별로 나눔)
+    private List<CommentDto.Response> toResponses(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+
+        // getComment().getId()는 프록시 초기화 없이 FK 값만 읽음
+        Map<Long, List<CommentDto.ImageInfo>> imagesByCommentId = commentImageRepository
+                .findByCommentIdInOrderByOrderIndexAsc(comments.stream().map(Comment::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        img -> img.getComment().getId(),
+                        Collectors.mapping(this::toImageInfo, Collectors.toList())
+                ));
+
+        return comments.stream()
+                .map(comment -> new CommentDto.Response(comment, imagesByCommentId.getOrDefault(comment.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private CommentImage newImage(Comment comment, String imageUrl, int orderIndex, Map<String, ImageVariants> variants) {
+        ImageVariants variant = variants.getOrDefault(imageUrl, ImageVariants.NONE);
+
+        CommentImage image = new CommentImage();
+        image.setComment(comment);
+        image.setImageUrl(imageUrl);
+        image.setThumbnailUrl(variant.thumbnailUrl());
+        image.setMediumUrl(variant.mediumUrl());
+        image.setOrderIndex(orderIndex);
+        return image;
+    }
+
+    private CommentDto.ImageInfo toImageInfo(CommentImage img) {
+        return new CommentDto.ImageInfo(
+                img.getId(),
+                img.getImageUrl(),
+                displayUrl(img),
+                img.getOriginalFileName(),
+                img.getOrderIndex()
+        );
+    }
+
+    // 댓글 이미지는 작게 표시되므로 썸네일 -> 중간 크기 -> 원본 순으로 있는 것
+    private String displayUrl(CommentImage img) {
+        if (img.getThumbnailUrl() != null) {
+            return img.getThumbnailUrl();
+        }
+
+        return img.getMediumUrl() != null ? img.getMediumUrl() : img.getImageUrl();
+    }
 }
@@ -0,0 +1,188 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.config.FileUploadProperties;
+import com.game.board_backend.repository.BoardImageRepository;
+import com.game.board_backend.repository.BoardRepository;
+import com.game.board_backend.repository.CommentImageRepository;
+import com.game.board_backend.repository.ImageVariantJobRepository;
+import com.game.board_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 내용 주소 방식으로 바꾼 뒤 한번만 실행: 기존 uploads/ 아래 UUID 이름 파일을 해시 이름으로 바꾸고 중복은 삭제
+// 파일을 쓰는 게시글/댓글 이미지, 게시글 썸네일, 프로필 주소도 같이 변경
+// 끝나면 uploads/.dedup-migrated 에 결과를 남겨서 다음 시작 때는 건너뜀
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentAddressMigration implements CommandLineRunner {
+
+    private static final String MARKER_FILE = ".dedup-migrated";
+    // 이미 해시 이름인 파일, 줄인 이미지(<이름>_w240.jpg)는 대상에서 제외
+    private static final Pattern HASHED_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z]+");
+    private static final Pattern VARIANT_NAME = Pattern.compile(".+_w\\d+\\.[a-z]+");
+
+    private final FileUploadProperties fileUploadProperties;
+    private final BoardImageRepository boardImageRepository;
+    private final CommentImageRepository commentImageRepository;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final ImageVariantJobRepository imageVariantJobRepository;
+    private final ImageVariantService imageVariantService;
+    private final TransactionTemplate transactionTemplate;
+
+    private long scanned;
+    private long renamed;
+    private long duplicates;
+    private long reclaimedBytes;
+
+    @Override
+    public void run(String... args) throws IOException {
+        Path root = Paths.get(fileUploadProperties.getUploadDir());
+        Path marker = root.resolve(MARKER_FILE);
+        if (!fileUploadProperties.isContentAddressed() || !Files.isDirectory(root) || Files.exists(marker)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try (Stream<Path> directories = Files.list(root)) {
+            for (Path directory : directories.filter(Files::isDirectory).toList()) {
+                migrateDirectory(directory);
+            }
+        }
+
+        String report = String.format("scanned=%d, renamed=%d, duplicates=%d, reclaimedBytes=%d",
+                scanned, renamed, duplicates, reclaimedBytes);
+        Files.writeString(marker, report + System.lineSeparator());
+        log.info("업로드 파일 중복 제거: 파일 {}개 확인, {}개 이름 변경, 중복 {}개 삭제, {}바이트 확보 ({}ms)",
+                scanned, renamed, duplicates, reclaimedBytes, System.currentTimeMillis() - start);
+    }
+
+    private void migrateDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(Files::isRegularFile)
+                    .filter(file -> isMigrationTarget(file.getFileName().toString()))
+                    .toList();
+        }
+
+        String subDirectory = directory.getFileName().toString();
+        for (Path file : files) {
+            try {
+                migrateFile(file, subDirectory);
+            } catch (IOException | RuntimeException e) {
+                // 한 파일이 실패해도 나머지는 계속 (실패한 파일은 원래 이름, 원래 주소 그대로 남음)
+                log.warn("업로드 파일 중복 제거 실패: {}", file, e);
+            }
+        }
+    }
+
+    private boolean isMigrationTarget(String fileName) {
+        return !fileName.startsWith(".")
+                && !HASHED_NAME.matcher(fileName).matches()
+                && !VARIANT_NAME.matcher(fileName).matches();
+    }
+
+    /**
+     * 파일 하나 전환
+     * 새 이름 파일을 먼저 만들고(복사) DB 주소를 바꾼 뒤, 커밋된 다음에만 옛 파일 삭제
+     * DB 변경이 실패하면 새로 만든 파일만 지워서 원래 상태로 남김
+     */
+    private void migrateFile(Path file, String subDirectory) throws IOException {
+        ImageType imageType = sniff(file);
+        if (imageType == null) {
+            return;
+        }
+        scanned++;
+
+        long size = Files.size(file);
+        String sha256 = FileStorageService.digestOf(file);
+        String oldUrl = "/" + subDirectory + "/" + file.getFileName();
+        String newUrl = "/" + subDirectory + "/" + FileStorageService.contentAddressedName(sha256, imageType);
+        Path target = file.resolveSibling(FileStorageService.contentAddressedName(sha256, imageType));
+
+        boolean duplicate = Files.exists(target);
+        if (!duplicate) {
+            // 임시 파일로 복사한 뒤 이동 (복사 중인 파일이 새 이름으로 보이지 않게)
+            Path tempFile = Files.createTempFile(file.getParent(), ".upload-", ".tmp");
+            try {
+                Files.copy(file, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> relink(oldUrl, newUrl, duplicate));
+        } catch (RuntimeException e) {
+            if (!duplicate) {
+                Files.deleteIfExists(target);
+            }
+            throw e;
+        }
+
+        Files.delete(file);
+        if (duplicate) {
+            duplicates++;
+            reclaimedBytes += size;
+            // 줄인 이미지는 남은 파일 것을 사용
+            imageVariantService.deleteVariants(oldUrl);
+        } else {
+            renamed++;
+        }
+    }
+
+    /**
+     * 옛 주소를 쓰던 곳을 새 주소로 변경
+     * 이름만 바뀐 경우 줄인 이미지 작업도 새 주소로 옮기고, 중복이면 남은 파일의 줄인 이미지 주소로 맞춤
+     */
+    private void relink(String oldUrl, String newUrl, boolean duplicate) {
+        boardImageRepository.replaceImageUrl(oldUrl, newUrl);
+        commentImageRepository.replaceImageUrl(oldUrl, newUrl);
+        userRepository.replaceProfileImageUrl(oldUrl, newUrl);
+        boardRepository.replaceThumbnailUrl(oldUrl, newUrl);
+
+        if (!duplicate) {
+            imageVariantJobRepository.findByImageUrl(oldUrl).ifPresent(job -> job.setImageUrl(newUrl));
+            return;
+        }
+
+        ImageVariants variants = imageVariantService.findVariants(List.of(newUrl)).getOrDefault(newUrl, ImageVariants.NONE);
+        boardImageRepository.updateVariants(newUrl, variants.thumbnailUrl(), variants.mediumUrl());
+        commentImageRepository.updateVariants(newUrl, variants.thumbnailUrl(), variants.mediumUrl());
+        userRepository.updateProfileThumbnail(newUrl, variants.thumbnailUrl());
+        imageVariantJobRepository.findByImageUrl(oldUrl)
+                .filter(job -> job.getThumbnailUrl() != null)
+                .ifPresent(job -> boardRepository.replaceThumbnailUrl(job.getThumbnailUrl(),
+                        variants.thumbnailUrl() != null ? variants.thumbnailUrl() : newUrl));
+        imageVariantService.enqueue(newUrl);
+    }
+
+    private ImageType sniff(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ImageType.SIGNATURE_BYTES);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // 계속 읽음
+            }
+        }
+        header.flip();
+
+        return ImageType.sniff(header);
+    }
+}
@@ -1,68 +1,304 @@
 package com.game.board_backend.service;
 
+import com.game.board_backend.cache.HotImageCache;
 import com.game.board_backend.config.FileUploadProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BooleanSupplier;
 
 @Service
 @RequiredArgsConstructor
 public class FileStorageService {
 
+    // 형식 판별용으로 먼저 읽는 첫 블록 크기
+    private static final int HEADER_BYTES = 8192;
+    // transferFrom 한번에 옮기는 최대 크기, 해시 계산 시 버퍼 크기
+    private static final int TRANSFER_CHUNK = 1024 * 1024;
+    private static final int DIGEST_BUFFER_BYTES = 64 * 1024;
+
     private final FileUploadProperties fileUploadProperties;
+    // 내용 주소 방식 파일의 주소별 잠금 (벤치마크처럼 단독으로 쓰는 경우 null, 이때는 UUID 이름으로 저장)
+    private final StoredFileLocks storedFileLocks;
+    // 삭제한 파일을 작은 이미지 캐시에서도 제거 (벤치마크처럼 단독으로 쓰는 경우 null)
+    private final HotImageCache hotImageCache;
 
-    // 파일 저장
+    /**
+     * 파일 저장 (multipart)
+     * 크기 제한은 업로드를 받는 중에 서블릿 컨테이너가 먼저 적용 (spring.servlet.multipart.max-file-size)
+     * 받아둔 파트는 transferTo로 옮겨서 (디스크에 있으면 이동) 한번 더 복사하지 않음
+     * 내용 주소 방식이면 옮긴 파일을 한번 읽어서 해시를 구한 뒤 해시 이름으로 배치
+     */
     public String storeFile(MultipartFile file, String subDirectory) {
-        // 파일명 검증
-        String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
+        String originalFileName = file.getOriginalFilename();
 
         try {
-            // 파일명에 부적절한 이름이 있는지 확인
-            if (originalFileName.contains("..")) {
-                throw new IllegalArgumentException("파일명에 부적절한 경로가 포함되어 있습니다: " + originalFileName);
-            }
-            // 파일 크기 체크
+            // 파일 크기 체크 (컨테이너 설정이 더 크게 잡혀 있는 경우 대비)
             if (file.getSize() > fileUploadProperties.getMaxSize()) {
                 throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 크기: " + fileUploadProperties.getMaxSize());
             }
 
-            // 파일 확장자 체크
-            String extension = getFileExtension(originalFileName);
-            if (!isAllowedExtension(extension)) {
-                throw new IllegalArgumentException("허용되지 않는 파일 형식입니다: " + extension);
+            // 파일 형식 체크 (확장자 대신 첫 블록의 시그니처로 판별)
+            ImageType imageType;
+            try (ReadableByteChannel source = Channels.newChannel(file.getInputStream())) {
+                imageType = sniff(readHeader(source));
             }
 
-            // 고유한 파일명 생성
-            String storedFileName = UUID.randomUUID().toString() + "." + extension;
+            Path uploadPath = resolveDirectory(subDirectory);
+
+            if (!isContentAddressed()) {
+                // 고유한 파일명 생성
+                String storedFileName = UUID.randomUUID() + "." + imageType.getExtension();
+                // 절대 경로의 File로 넘겨야 컨테이너가 임시 파일을 이름만 바꿔서 옮김 (상대 경로면 임시 폴더 기준이 됨)
+                Path targetLocation = uploadPath.resolve(storedFileName).toAbsolutePath();
+                file.transferTo(targetLocation.toFile());
 
-            // 저장 경로 생성
-            Path uploadPath = Paths.get(fileUploadProperties.getUploadDir(), subDirectory);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+                // 저장된 파일의 URL반환
+                return "/" + subDirectory + "/" + storedFileName;
             }
 
-            // 파일 저장
-            Path targetLocation = uploadPath.resolve(storedFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            Path tempFile = Files.createTempFile(uploadPath, ".upload-", ".tmp");
+            try {
+                file.transferTo(tempFile.toAbsolutePath().toFile());
+                return place(tempFile, uploadPath, subDirectory, imageType, digestOf(tempFile));
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장에 실패했습니다: " + originalFileName, e);
+        }
+    }
+
+    /**
+     * 파일 저장 (요청 본문을 그대로 스트리밍)
+     * multipart로 한번 받아두지 않고 NIO 채널로 바로 저장 위치에 씀 (내용 주소 방식이면 쓰면서 해시 계산)
+     * 크기는 쓰는 중에 확인해서 넘으면 바로 중단 (임시 파일은 삭제)
+     * @param declaredLength 요청의 Content-Length (모르면 -1, 알면 받기 전에 먼저 거절)
+     */
+    public String storeStream(InputStream inputStream, long declaredLength, String subDirectory) {
+        long maxSize = fileUploadProperties.getMaxSize();
+        if (declaredLength > maxSize) {
+            throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 크기: " + maxSize);
+        }
+
+        Path tempFile = null;
+        try (ReadableByteChannel source = Channels.newChannel(inputStream)) {
+            // 첫 블록으로 형식 판별
+            ByteBuffer header = readHeader(source);
+            ImageType imageType = sniff(header);
 
-            // 저장된 파일의 URL반환
+            Path uploadPath = resolveDirectory(subDirectory);
+            tempFile = Files.createTempFile(uploadPath, ".upload-", ".tmp");
+
+            MessageDigest digest = isContentAddressed() ? sha256() : null;
+            try (FileChannel target = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                if (digest == null) {
+                    transfer(source, target, header, maxSize);
+                } else {
+                    transferHashed(source, target, header, maxSize, digest);
+                }
+            }
+
+            if (digest != null) {
+                return place(tempFile, uploadPath, subDirectory, imageType, HexFormat.of().formatHex(digest.digest()));
+            }
+
+            // 다 받은 뒤에 최종 이름으로 이동 (받는 중인 파일이 URL로 보이지 않게)
+            String storedFileName = UUID.randomUUID() + "." + imageType.getExtension();
+            Files.move(tempFile, uploadPath.resolve(storedFileName), StandardCopyOption.ATOMIC_MOVE);
 
             return "/" + subDirectory + "/" + storedFileName;
         } catch (IOException e) {
-            throw new RuntimeException("파일 저장에 실패했습니다: " + originalFileName, e);
+            throw new RuntimeException("파일 저장에 실패했습니다.", e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // 남은 임시 파일은 다음 정리 작업에서 삭제
+                }
+            }
         }
     }
 
-    // 파일 삭제
-    public void deleteFile(String fileUrl) {
+    /**
+     * 파일 삭제
+     * 내용 주소 방식 파일은 다른 게시글/댓글/프로필이 같은 파일을 쓰고 있을 수 있어서 바로 지우지 않음
+     * (DB에서 쓰는 곳이 없어지면 정리 작업(OrphanedUploadCollector)이 삭제)
+     * @return 파일을 실제로 삭제했으면 true
+     */
+    public boolean deleteFile(String fileUrl) {
+        if (isContentAddressed()) {
+            return false;
+        }
+
+        deleteFromDisk(fileUrl);
+        invalidateCached(fileUrl);
+        return true;
+    }
+
+    /**
+     * 정리 작업용 삭제 (DB에서 쓰는 곳이 없는지는 호출하는 쪽에서 확인)
+     * 잠금 안에서 수정 시각과 참조 여부를 다시 확인해서, 그 사이에 다시 업로드됐거나 쓰이기 시작했으면 남김
+     * @return 삭제한 바이트 수 (삭제하지 않았으면 -1)
+     */
+    public long deleteUnused(String fileUrl, Instant cutoff, BooleanSupplier stillUnused) throws IOException {
+        Lock lock = storedFileLocks == null ? null : storedFileLocks.lockFor(fileUrl);
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            Path filePath = Paths.get(fileUploadProperties.getUploadDir() + fileUrl);
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            if (attributes.lastModifiedTime().toInstant().isAfter(cutoff) || !stillUnused.getAsBoolean()) {
+                return -1;
+            }
+
+            Files.delete(filePath);
+            invalidateCached(fileUrl);
+            return attributes.size();
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void invalidateCached(String fileUrl) {
+        if (hotImageCache != null) {
+            hotImageCache.invalidate(fileUrl);
+        }
+    }
+
+    // 해시 이름 (/{subDirectory}/{sha256}.{확장자})
+    public static String contentAddressedName(String sha256Hex, ImageType imageType) {
+        return sha256Hex + "." + imageType.getExtension();
+    }
+
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 파일 전체를 읽어서 SHA-256 (16진수)
+    public static String digestOf(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_BYTES);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private boolean isContentAddressed() {
+        return fileUploadProperties.isContentAddressed() && storedFileLocks != null;
+    }
+
+    // 해시 이름으로 배치 (이미 같은 내용이 있으면 임시 파일은 버리고 기존 파일을 사용)
+    private String place(Path tempFile, Path uploadPath, String subDirectory, ImageType imageType,
+                         String sha256Hex) throws IOException {
+        String storedFileName = contentAddressedName(sha256Hex, imageType);
+        String url = "/" + subDirectory + "/" + storedFileName;
+        Path target = uploadPath.resolve(storedFileName);
+
+        Lock lock = storedFileLocks.lockFor(url);
+        lock.lock();
+        try {
+            if (Files.exists(target)) {
+                Files.delete(tempFile);
+                // 정리 작업(OrphanedUploadCollector)이 방금 다시 올라온 파일을 지우지 않도록 수정 시각 갱신
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            } else {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return url;
+    }
+
+    // 첫 블록 + 나머지를 transferFrom으로 (최대 크기 + 1 바이트까지만 받아서 넘는지 확인)
+    private long transfer(ReadableByteChannel source, FileChannel target, ByteBuffer header, long maxSize) throws IOException {
+        long written = 0;
+        while (header.hasRemaining()) {
+            written += target.write(header);
+        }
+
+        while (written <= maxSize) {
+            long transferred = target.transferFrom(source, written, Math.min(TRANSFER_CHUNK, maxSize + 1 - written));
+            if (transferred == 0) {
+                break;
+            }
+            written += transferred;
+        }
+
+        checkSize(written, maxSize);
+        return written;
+    }
+
+    // 해시를 같이 계산해야 해서 버퍼를 거쳐서 씀
+    private long transferHashed(ReadableByteChannel source, FileChannel target, ByteBuffer header,
+                                long maxSize, MessageDigest digest) throws IOException {
+        long written = writeHashed(target, header, digest);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_BYTES);
+        while (written <= maxSize && source.read(buffer) != -1) {
+            buffer.flip();
+            written += writeHashed(target, buffer, digest);
+            buffer.clear();
+        }
+
+        checkSize(written, maxSize);
+        return written;
+    }
+
+    private long writeHashed(FileChannel target, ByteBuffer buffer, MessageDigest digest) throws IOException {
+        digest.update(buffer.duplicate());
+
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += target.write(buffer);
+        }
+
+        return written;
+    }
+
+    private void checkSize(long written, long maxSize) {
+        if (written > maxSize) {
+            throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 크기: " + maxSize);
+        }
+    }
+
+    private void deleteFromDisk(String fileUrl) {
         try {
             Path filePath = Paths.get(fileUploadProperties.getUploadDir() + fileUrl);
             Files.deleteIfExists(filePath);
@@ -71,25 +307,38 @@ public class FileStorageService {
         }
     }
 
-    // 파일 확장자 추출
-    private String getFileExtension(String fileName) {
-        int lastIndexOf = fileName.lastIndexOf(".");
-        if (lastIndexOf == -1) {
-            return "";
+    // 저장 경로 생성
+    private Path resolveDirectory(String subDirectory) throws IOException {
+        Path uploadPath = Paths.get(fileUploadProperties.getUploadDir(), subDirectory);
+        if (!Files.exists(uploadPath)) {
+            Files.createDirectories(uploadPath);
         }
 
-        return fileName.substring(lastIndexOf + 1).toLowerCase();
+        return uploadPath;
     }
 
-    // 허용된 파일 확장자체크
-    private boolean isAllowedExtension(String extension) {
-        String[] allowedExtension = {"jpg", "jpeg", "png", "gif", "webp"};
-        for (String allowed : allowedExtension) {
-            if (allowed.equals(extension)) {
-                return true;
-            }
+    // 첫 블록 읽기 (블록이 다 차거나 파일이 끝날 때까지)
+    private ByteBuffer readHeader(ReadableByteChannel source) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining() && source.read(header) != -1) {
+            // 계속 읽음
+        }
+        header.flip();
+
+        if (!header.hasRemaining()) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+
+        return header;
+    }
+
+    // 허용된 이미지 형식인지 체크
+    private ImageType sniff(ByteBuffer header) {
+        ImageType imageType = ImageType.sniff(header);
+        if (imageType == null) {
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다. (jpg, png, gif, webp만 가능)");
         }
 
-        return false;
+        return imageType;
     }
 }
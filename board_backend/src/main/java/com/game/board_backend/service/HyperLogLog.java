@@ -0,0 +1,117 @@
+package com.game.board_backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// 고유 방문자 수 근사 계산용 HyperLogLog
+// 레지스터 m(=2^precision)개를 1바이트씩 사용, 표준 오차는 약 1.04 / sqrt(m)
+public class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision은 " + MIN_PRECISION + " ~ " + MAX_PRECISION + " 사이여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    // 저장된 레지스터로 복원 (길이로 precision 판단)
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        int precision = Integer.numberOfTrailingZeros(bytes.length);
+        if (bytes.length != 1 << precision) {
+            throw new IllegalArgumentException("잘못된 HyperLogLog 데이터입니다.");
+        }
+
+        HyperLogLog sketch = new HyperLogLog(precision);
+        System.arraycopy(bytes, 0, sketch.registers, 0, bytes.length);
+        return sketch;
+    }
+
+    /**
+     * 목표 오차율과 메모리 한도로 precision 계산
+     * @param errorRate 목표 표준 오차 (예: 0.02 = 2%)
+     * @param maxBytes 스케치 하나당 최대 바이트
+     */
+    public static int precisionFor(double errorRate, int maxBytes) {
+        double registersNeeded = Math.pow(1.04 / errorRate, 2);
+        int precision = (int) Math.ceil(Math.log(registersNeeded) / Math.log(2));
+        int budgetPrecision = 31 - Integer.numberOfLeadingZeros(Math.max(1, maxBytes));
+
+        return Math.max(MIN_PRECISION, Math.min(Math.min(precision, budgetPrecision), MAX_PRECISION));
+    }
+
+    /**
+     * 값 추가
+     * @return 레지스터가 바뀌었으면 true (추정치가 변했을 수 있음)
+     */
+    public synchronized boolean offer(String value) {
+        long hash = hash64(value);
+        int index = (int) (hash >>> (64 - precision));
+        long rest = hash << precision;
+        int rank = Math.min(Long.numberOfLeadingZeros(rest) + 1, 64 - precision + 1);
+
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+            return true;
+        }
+
+        return false;
+    }
+
+    // 고유 값 개수 추정
+    public synchronized long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = alpha(m) * m * m / sum;
+
+        // 값이 적을 때는 linear counting이 더 정확함
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+
+        return Math.round(estimate);
+    }
+
+    public synchronized byte[] toBytes() {
+        return Arrays.copyOf(registers, registers.length);
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    // FNV-1a 64비트 + splitmix64 마무리 (비트 분포를 고르게, BloomFilter에서도 사용)
+    static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash;
+    }
+}
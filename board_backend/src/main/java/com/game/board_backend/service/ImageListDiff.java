@@ -0,0 +1,80 @@
+package com.game.board_backend.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+// 게시글/댓글 수정 시 기존 이미지 행과 새 URL 목록 비교
+// 남아있는 이미지는 행을 그대로 두고 순서만 고침 (바뀐 경우만), 빠진 이미지만 삭제, 새 이미지만 추가
+// 같은 URL이 여러 번 있으면 앞에서부터 하나씩 짝지음
+final class ImageListDiff<T> {
+
+    private final List<T> kept = new ArrayList<>();
+    private final List<T> removed = new ArrayList<>();
+    private final List<Added> added = new ArrayList<>();
+
+    private ImageListDiff() {
+    }
+
+    /**
+     * @param existing 기존 이미지 행 (순서대로)
+     * @param imageUrls 새 이미지 URL 목록 (null이면 전부 삭제)
+     * @param reorder 남는 행의 orderIndex 변경 (영속 상태라 커밋 시 UPDATE)
+     */
+    static <T> ImageListDiff<T> of(
+            List<T> existing,
+            List<String> imageUrls,
+            Function<T, String> urlOf,
+            Function<T, Integer> orderOf,
+            BiConsumer<T, Integer> reorder
+    ) {
+        ImageListDiff<T> diff = new ImageListDiff<>();
+
+        Map<String, Deque<T>> byUrl = new HashMap<>();
+        for (T image : existing) {
+            byUrl.computeIfAbsent(urlOf.apply(image), url -> new ArrayDeque<>()).add(image);
+        }
+
+        List<String> urls = imageUrls != null ? imageUrls : List.of();
+        for (int i = 0; i < urls.size(); i++) {
+            Deque<T> candidates = byUrl.get(urls.get(i));
+            T image = candidates != null ? candidates.poll() : null;
+
+            if (image == null) {
+                diff.added.add(new Added(urls.get(i), i));
+                continue;
+            }
+
+            if (!Objects.equals(orderOf.apply(image), i)) {
+                reorder.accept(image, i);
+            }
+            diff.kept.add(image);
+        }
+
+        byUrl.values().forEach(diff.removed::addAll);
+        return diff;
+    }
+
+    // 그대로 남는 행
+    List<T> kept() {
+        return kept;
+    }
+
+    // 삭제할 행
+    List<T> removed() {
+        return removed;
+    }
+
+    // 새로 추가할 이미지
+    List<Added> added() {
+        return added;
+    }
+
+    record Added(String imageUrl, int orderIndex) { }
+}
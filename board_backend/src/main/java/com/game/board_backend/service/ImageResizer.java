@@ -0,0 +1,135 @@
+package com.game.board_backend.service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+// 이미지 가로 크기 줄이기 (javax.imageio)
+// 한번에 많이 줄이면 계단 현상이 생겨서 절반씩 여러 번 줄임
+final class ImageResizer {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 원본 읽기 (ImageIO가 읽을 수 없는 형식이면 null)
+     * 헤더에서 가로/세로를 먼저 읽고, 픽셀 수가 maxPixels를 넘으면 건너뛰며 읽어서(서브샘플링) 한도 안으로 줄임
+     * (작은 파일로 큰 크기를 선언한 이미지가 디코딩 중에 메모리를 다 쓰지 않도록)
+     */
+    static BufferedImage read(Path source, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = subsampling(pixels, maxPixels);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // (가로 / n) * (세로 / n)이 maxPixels 이하가 되는 가장 작은 n
+    static int subsampling(long pixels, long maxPixels) {
+        int n = 1;
+        while (pixels / ((long) n * n) > maxPixels) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * 가로 width로 줄여서 저장 (세로는 비율 유지)
+     * 투명도가 있으면 png, 없으면 jpg로 저장하고 확장자를 붙인 실제 경로를 반환
+     * @param targetWithoutExtension 확장자를 뺀 저장 경로
+     */
+    static Path resize(BufferedImage source, int width, Path targetWithoutExtension) throws IOException {
+        boolean alpha = source.getColorModel().hasAlpha();
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = Math.max(1, (int) Math.round((double) currentHeight * nextWidth / currentWidth));
+            current = scale(current, nextWidth, nextHeight, type);
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > width);
+
+        Path target = targetWithoutExtension.resolveSibling(
+                targetWithoutExtension.getFileName() + (alpha ? ".png" : ".jpg"));
+        Path tempFile = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        try {
+            if (alpha) {
+                ImageIO.write(current, "png", tempFile.toFile());
+            } else {
+                writeJpeg(current, tempFile);
+            }
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        return target;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height, int type) {
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return scaled;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
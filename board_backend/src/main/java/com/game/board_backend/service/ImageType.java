@@ -0,0 +1,76 @@
+package com.game.board_backend.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// 허용하는 이미지 형식 (파일 앞부분의 시그니처로 판별, 확장자는 믿지 않음)
+@Getter
+@RequiredArgsConstructor
+public enum ImageType {
+    JPEG("jpg", "image/jpeg"),
+    PNG("png", "image/png"),
+    GIF("gif", "image/gif"),
+    WEBP("webp", "image/webp");
+
+    // 판별에 필요한 최소 바이트 수 (WEBP: RIFF....WEBP)
+    public static final int SIGNATURE_BYTES = 12;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final String extension;
+    private final String contentType;
+
+    /**
+     * 파일 첫 블록으로 형식 판별
+     * @param header 파일 앞부분 (position부터 limit까지 읽음, position은 바뀌지 않음)
+     * @return 허용하지 않는 형식이면 null
+     */
+    public static ImageType sniff(ByteBuffer header) {
+        if (startsWith(header, 0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})) {
+            return JPEG;
+        }
+        if (startsWith(header, 0, PNG_SIGNATURE)) {
+            return PNG;
+        }
+        if (startsWith(header, 0, ascii("GIF87a")) || startsWith(header, 0, ascii("GIF89a"))) {
+            return GIF;
+        }
+        if (startsWith(header, 0, ascii("RIFF")) && startsWith(header, 8, ascii("WEBP"))) {
+            return WEBP;
+        }
+
+        return null;
+    }
+
+    // 저장된 파일 이름의 확장자로 형식 찾기 (저장할 때 판별한 형식으로 붙인 확장자라 믿어도 됨), 없으면 null
+    public static ImageType fromExtension(String extension) {
+        for (ImageType type : values()) {
+            if (type.extension.equals(extension)) {
+                return type;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean startsWith(ByteBuffer header, int offset, byte[] signature) {
+        if (header.remaining() < offset + signature.length) {
+            return false;
+        }
+
+        for (int i = 0; i < signature.length; i++) {
+            if (header.get(header.position() + offset + i) != signature[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
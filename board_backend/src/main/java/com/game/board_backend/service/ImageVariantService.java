@@ -0,0 +1,365 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.cache.BoardDetailCache;
+import com.game.board_backend.cache.BoardListVersion;
+import com.game.board_backend.cache.HotImageCache;
+import com.game.board_backend.config.FileUploadProperties;
+import com.game.board_backend.model.ImageVariantJob;
+import com.game.board_backend.model.ImageVariantStatus;
+import com.game.board_backend.repository.BoardImageRepository;
+import com.game.board_backend.repository.BoardRepository;
+import com.game.board_backend.repository.CommentImageRepository;
+import com.game.board_backend.repository.ImageVariantJobRepository;
+import com.game.board_backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// 업로드된 이미지의 줄인 이미지(썸네일, 중간 크기) 생성
+// 업로드 시 작업을 DB(image_variant_jobs)에 넣고, 주기적으로 대기 중인 작업을 가져와 전용 스레드 풀에서 처리
+// 완료되면 그 이미지를 쓰는 게시글/댓글 이미지, 게시글 썸네일, 프로필에 줄인 이미지 주소를 기록
+// (완료 처리보다 늦게 커밋된 저장은 reconcile()이 주기적으로 보정)
+// 애니메이션 GIF와 WEBP(ImageIO가 못 읽음)는 원본을 그대로 사용
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    // 줄인 이미지 주소 보정 시 한번에 조회할 작업 수
+    private static final int RECONCILE_BATCH_SIZE = 200;
+
+    private final ImageVariantJobRepository imageVariantJobRepository;
+    private final BoardImageRepository boardImageRepository;
+    private final CommentImageRepository commentImageRepository;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardListVersion boardListVersion;
+    private final HotImageCache hotImageCache;
+    private final TransactionTemplate transactionTemplate;
+    // 작업 등록은 호출한 쪽 트랜잭션과 따로 커밋 (UNIQUE 충돌이 호출한 쪽 트랜잭션을 롤백시키지 않도록)
+    private final TransactionTemplate enqueueTransaction;
+    private final FileUploadProperties fileUploadProperties;
+
+    private final int thumbnailWidth;
+    private final int mediumWidth;
+    private final int maxAttempts;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer generateTimer;
+    private final Counter completed;
+    private final Counter failed;
+
+    public ImageVariantService(
+            ImageVariantJobRepository imageVariantJobRepository,
+            BoardImageRepository boardImageRepository,
+            CommentImageRepository commentImageRepository,
+            BoardRepository boardRepository,
+            UserRepository userRepository,
+            BoardDetailCache boardDetailCache,
+            BoardListVersion boardListVersion,
+            HotImageCache hotImageCache,
+            TransactionTemplate transactionTemplate,
+            FileUploadProperties fileUploadProperties,
+            MeterRegistry meterRegistry,
+            @Value("${image.variants.thumbnail-width:240}") int thumbnailWidth,
+            @Value("${image.variants.medium-width:960}") int mediumWidth,
+            @Value("${image.variants.threads:2}") int threads,
+            @Value("${image.variants.queue-capacity:32}") int queueCapacity,
+            @Value("${image.variants.max-attempts:3}") int maxAttempts,
+            @Value("${image.variants.max-pixels:25000000}") long maxPixels
+    ) {
+        this.imageVariantJobRepository = imageVariantJobRepository;
+        this.boardImageRepository = boardImageRepository;
+        this.commentImageRepository = commentImageRepository;
+        this.boardRepository = boardRepository;
+        this.userRepository = userRepository;
+        this.boardDetailCache = boardDetailCache;
+        this.boardListVersion = boardListVersion;
+        this.hotImageCache = hotImageCache;
+        this.transactionTemplate = transactionTemplate;
+        this.enqueueTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.enqueueTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.fileUploadProperties = fileUploadProperties;
+        this.thumbnailWidth = thumbnailWidth;
+        this.mediumWidth = mediumWidth;
+        this.maxAttempts = maxAttempts;
+        this.maxPixels = maxPixels;
+
+        // 큰 이미지는 디코딩에 메모리를 많이 써서 스레드 수를 작게 제한
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+
+        this.generateTimer = Timer.builder("image.variants.generate").register(meterRegistry);
+        this.completed = Counter.builder("image.variants.jobs").tag("result", "done").register(meterRegistry);
+        this.failed = Counter.builder("image.variants.jobs").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("image.variants.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    // 업로드 직후 호출 (작업만 저장하고 바로 반환)
+    // 내용 주소 방식에서는 같은 파일이 동시에 올라오면 주소가 같아서, 먼저 등록된 작업이 있으면 그대로 사용
+    public void enqueue(String imageUrl) {
+        if (imageUrl == null) {
+            return;
+        }
+
+        try {
+            enqueueTransaction.executeWithoutResult(status -> {
+                if (imageVariantJobRepository.existsByImageUrl(imageUrl)) {
+                    return;
+                }
+
+                ImageVariantJob job = new ImageVariantJob();
+                job.setImageUrl(imageUrl);
+                imageVariantJobRepository.saveAndFlush(job);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("줄인 이미지 작업 이미 등록됨: {}", imageUrl);
+        }
+    }
+
+    // 게시글/댓글/프로필 저장 시 이미 만들어진 줄인 이미지 주소 (없는 원본은 결과에 없음)
+    public Map<String, ImageVariants> findVariants(Collection<String> imageUrls) {
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return Map.of();
+        }
+
+        return imageVariantJobRepository.findByImageUrlInAndStatus(imageUrls, ImageVariantStatus.DONE).stream()
+                .collect(Collectors.toMap(
+                        ImageVariantJob::getImageUrl,
+                        job -> new ImageVariants(job.getThumbnailUrl(), job.getMediumUrl())
+                ));
+    }
+
+    // 원본 파일이 삭제된 뒤 호출: 줄인 이미지 파일과 작업 삭제 (다음에 같은 내용이 올라오면 다시 생성)
+    public void deleteVariants(String imageUrl) {
+        imageVariantJobRepository.findByImageUrl(imageUrl).ifPresent(job -> {
+            deleteVariantFile(job.getThumbnailUrl());
+            deleteVariantFile(job.getMediumUrl());
+            imageVariantJobRepository.delete(job);
+        });
+    }
+
+    // 서버가 처리 중에 종료됐던 작업은 다시 대기로
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        int resumed = imageVariantJobRepository.updateStatus(ImageVariantStatus.PROCESSING, ImageVariantStatus.PENDING);
+        if (resumed > 0) {
+            log.info("줄인 이미지 작업 재개: {}건", resumed);
+        }
+    }
+
+    /**
+     * 완료된 줄인 이미지 주소를 아직 모르는 행 보정
+     * 저장 시 findVariants로 조회한 뒤 완료 처리가 커밋되고 나서 저장이 커밋되면 원본 주소만 남으므로 주기적으로 다시 기록
+     * @return 보정한 원본 이미지 수
+     */
+    @Scheduled(
+            initialDelayString = "${image.variants.reconcile-interval:600000}",
+            fixedDelayString = "${image.variants.reconcile-interval:600000}"
+    )
+    public int reconcile() {
+        int fixed = 0;
+        long afterId = 0;
+        while (true) {
+            List<ImageVariantJob> jobs = imageVariantJobRepository.findUnappliedAfter(
+                    ImageVariantStatus.DONE, afterId, PageRequest.of(0, RECONCILE_BATCH_SIZE));
+            for (ImageVariantJob job : jobs) {
+                ImageVariants variants = new ImageVariants(job.getThumbnailUrl(), job.getMediumUrl());
+                transactionTemplate.executeWithoutResult(status -> apply(job.getImageUrl(), variants));
+                fixed++;
+            }
+            if (jobs.size() < RECONCILE_BATCH_SIZE) {
+                break;
+            }
+            afterId = jobs.get(jobs.size() - 1).getId();
+        }
+
+        if (fixed > 0) {
+            log.info("줄인 이미지 주소 보정: {}건", fixed);
+        }
+        return fixed;
+    }
+
+    // 스레드 풀 대기열에 남은 자리만큼만 대기 중인 작업을 가져와서 처리 중으로 바꾸고 실행
+    @Scheduled(fixedDelayString = "${image.variants.poll-interval:1000}")
+    public void poll() {
+        int free = executor.getQueue().remainingCapacity();
+        if (free == 0) {
+            return;
+        }
+
+        List<ImageVariantJob> claimed = transactionTemplate.execute(status -> {
+            List<ImageVariantJob> jobs = imageVariantJobRepository.findByStatusOrderByIdAsc(
+                    ImageVariantStatus.PENDING, PageRequest.of(0, free));
+            jobs.forEach(job -> job.setStatus(ImageVariantStatus.PROCESSING));
+            return jobs;
+        });
+
+        if (claimed == null) {
+            return;
+        }
+        for (ImageVariantJob job : claimed) {
+            executor.execute(() -> process(job.getId(), job.getImageUrl()));
+        }
+    }
+
+    private void process(Long jobId, String imageUrl) {
+        ImageVariants variants;
+        try {
+            variants = generateTimer.recordCallable(() -> generate(imageUrl));
+        } catch (Exception e) {
+            log.warn("줄인 이미지 생성 실패: {}", imageUrl, e);
+            transactionTemplate.executeWithoutResult(status -> retryOrFail(jobId));
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> complete(jobId, imageUrl, variants));
+        completed.increment();
+    }
+
+    // 원본을 읽어서 가로 크기별로 저장 (원본이 더 작은 크기는 만들지 않음, 프로필은 썸네일만)
+    private ImageVariants generate(String imageUrl) throws IOException {
+        String extension = imageUrl.substring(imageUrl.lastIndexOf('.') + 1).toLowerCase();
+        if (extension.equals("gif") || extension.equals("webp")) {
+            return ImageVariants.NONE;
+        }
+
+        Path source = Paths.get(fileUploadProperties.getUploadDir() + imageUrl);
+        if (!Files.exists(source)) {
+            throw new IOException("원본 파일이 없습니다: " + imageUrl);
+        }
+
+        BufferedImage image = ImageResizer.read(source, maxPixels);
+        if (image == null) {
+            return ImageVariants.NONE;
+        }
+
+        String thumbnailUrl = resize(image, source, imageUrl, thumbnailWidth);
+        String mediumUrl = imageUrl.startsWith("/profiles/") ? null : resize(image, source, imageUrl, mediumWidth);
+        return new ImageVariants(thumbnailUrl, mediumUrl);
+    }
+
+    private String resize(BufferedImage image, Path source, String imageUrl, int width) throws IOException {
+        if (image.getWidth() <= width) {
+            return null;
+        }
+
+        String fileName = source.getFileName().toString();
+        String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
+        Path variant = ImageResizer.resize(image, width, source.resolveSibling(baseName + "_w" + width));
+
+        return imageUrl.substring(0, imageUrl.lastIndexOf('/') + 1) + variant.getFileName();
+    }
+
+    private void deleteVariantFile(String variantUrl) {
+        if (variantUrl == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(Paths.get(fileUploadProperties.getUploadDir() + variantUrl));
+            hotImageCache.invalidate(variantUrl);
+        } catch (IOException e) {
+            log.warn("줄인 이미지 삭제 실패: {}", variantUrl, e);
+        }
+    }
+
+    // 완료 처리: 작업 상태 저장 + 이 이미지를 쓰는 곳에 주소 기록
+    private void complete(Long jobId, String imageUrl, ImageVariants variants) {
+        imageVariantJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(ImageVariantStatus.DONE);
+            job.setThumbnailUrl(variants.thumbnailUrl());
+            job.setMediumUrl(variants.mediumUrl());
+        });
+
+        if (variants.equals(ImageVariants.NONE)) {
+            return;
+        }
+
+        apply(imageUrl, variants);
+    }
+
+    // 이 이미지를 쓰는 게시글/댓글 이미지, 게시글 썸네일, 프로필에 줄인 이미지 주소 기록 (커밋 후 캐시 무효화)
+    private void apply(String imageUrl, ImageVariants variants) {
+        boardImageRepository.updateVariants(imageUrl, variants.thumbnailUrl(), variants.mediumUrl());
+        commentImageRepository.updateVariants(imageUrl, variants.thumbnailUrl(), variants.mediumUrl());
+        List<Long> boardIds = boardImageRepository.findBoardIdsByImageUrl(imageUrl);
+        // 상세 응답의 이미지 주소(displayUrl)가 바뀌므로 수정 시각도 올려서 이전 응답을 캐시한 클라이언트가 304를 받지 않게 함
+        if (!boardIds.isEmpty()) {
+            boardRepository.touchUpdatedAt(boardIds, LocalDateTime.now());
+        }
+
+        List<Long> userIds = List.of();
+        boolean thumbnailReplaced = false;
+        if (variants.thumbnailUrl() != null) {
+            userRepository.updateProfileThumbnail(imageUrl, variants.thumbnailUrl());
+            userIds = userRepository.findIdsByProfileImageUrl(imageUrl);
+            thumbnailReplaced = boardRepository.replaceThumbnailUrl(imageUrl, variants.thumbnailUrl()) > 0;
+        }
+
+        List<Long> authorIds = userIds;
+        boolean listChanged = thumbnailReplaced;
+        AfterCommit.run(() -> {
+            boardDetailCache.invalidate(boardIds);
+            authorIds.forEach(boardDetailCache::invalidateAuthor);
+            if (listChanged) {
+                boardListVersion.bump();
+            }
+        });
+    }
+
+    // 실패 처리: 시도 횟수를 넘으면 FAILED (원본을 그대로 사용), 아니면 다음 주기에 다시 시도
+    private void retryOrFail(Long jobId) {
+        imageVariantJobRepository.findById(jobId).ifPresent(job -> {
+            job.setAttempts(job.getAttempts() + 1);
+            if (job.getAttempts() >= maxAttempts) {
+                job.setStatus(ImageVariantStatus.FAILED);
+                failed.increment();
+            } else {
+                job.setStatus(ImageVariantStatus.PENDING);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,7 @@
+package com.game.board_backend.service;
+
+// 원본 이미지 하나의 줄인 이미지 주소 (원본이 그 크기보다 작거나 만들 수 없는 형식이면 null)
+public record ImageVariants(String thumbnailUrl, String mediumUrl) {
+
+    public static final ImageVariants NONE = new ImageVariants(null, null);
+}
@@ -0,0 +1,231 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.cache.HotImageCache;
+import com.game.board_backend.config.FileUploadProperties;
+import com.game.board_backend.repository.BoardImageRepository;
+import com.game.board_backend.repository.CommentImageRepository;
+import com.game.board_backend.repository.ImageVariantJobRepository;
+import com.game.board_backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 쓰는 곳이 없는 업로드 파일 정리
+// 게시글 작성 전에 올리고 안 쓴 이미지, 게시글 수정/삭제로 빠진 이미지는 DB 행만 지워지고 파일은 남음
+// uploads/ 아래 파일 목록을 한 바퀴 돌 때마다 새로 읽고, 주기마다 batch-size개씩만 확인 (디스크/DB 부하 제한)
+// 확인은 배치 단위로 board_images, comment_images, users.profile_image_url, 줄인 이미지 작업을 한번에 조회
+// 업로드 직후 글 작성 중인 파일을 지우지 않도록 수정 시각이 grace-period 안이면 남김
+@Slf4j
+@Component
+public class OrphanedUploadCollector {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    // 줄인 이미지 (<원본 이름>_w240.jpg)
+    private static final Pattern VARIANT_NAME = Pattern.compile(".+_w\\d+\\.[a-z]+");
+
+    private final FileUploadProperties fileUploadProperties;
+    private final FileStorageService fileStorageService;
+    private final ImageVariantService imageVariantService;
+    private final BoardImageRepository boardImageRepository;
+    private final CommentImageRepository commentImageRepository;
+    private final UserRepository userRepository;
+    private final ImageVariantJobRepository imageVariantJobRepository;
+    private final HotImageCache hotImageCache;
+    private final int batchSize;
+    private final Duration gracePeriod;
+
+    // 이번 바퀴에 남은 파일 (주소 순서)
+    private final ArrayDeque<String> pending = new ArrayDeque<>();
+
+    private final Counter scanned;
+    private final Counter reclaimedFiles;
+    private final Counter reclaimedBytes;
+
+    public OrphanedUploadCollector(
+            FileUploadProperties fileUploadProperties,
+            FileStorageService fileStorageService,
+            ImageVariantService imageVariantService,
+            BoardImageRepository boardImageRepository,
+            CommentImageRepository commentImageRepository,
+            UserRepository userRepository,
+            ImageVariantJobRepository imageVariantJobRepository,
+            HotImageCache hotImageCache,
+            MeterRegistry meterRegistry,
+            @Value("${file.gc.batch-size:200}") int batchSize,
+            @Value("${file.gc.grace-period:86400000}") long gracePeriodMillis
+    ) {
+        this.fileUploadProperties = fileUploadProperties;
+        this.fileStorageService = fileStorageService;
+        this.imageVariantService = imageVariantService;
+        this.boardImageRepository = boardImageRepository;
+        this.commentImageRepository = commentImageRepository;
+        this.userRepository = userRepository;
+        this.imageVariantJobRepository = imageVariantJobRepository;
+        this.hotImageCache = hotImageCache;
+        this.batchSize = batchSize;
+        this.gracePeriod = Duration.ofMillis(gracePeriodMillis);
+
+        this.scanned = Counter.builder("uploads.gc.scanned").register(meterRegistry);
+        this.reclaimedFiles = Counter.builder("uploads.gc.reclaimed.files").register(meterRegistry);
+        this.reclaimedBytes = Counter.builder("uploads.gc.reclaimed.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${file.gc.interval:10000}",
+            fixedDelayString = "${file.gc.interval:10000}"
+    )
+    public void scheduledCollect() {
+        try {
+            collect();
+        } catch (IOException e) {
+            log.warn("업로드 파일 정리 실패", e);
+        }
+    }
+
+    /**
+     * 다음 배치 하나 정리 (남은 파일이 없으면 목록을 새로 읽어서 다음 바퀴 시작)
+     * @return 삭제한 파일 수
+     */
+    public synchronized int collect() throws IOException {
+        if (pending.isEmpty()) {
+            pending.addAll(listUploads());
+        }
+
+        List<String> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && !pending.isEmpty()) {
+            batch.add(pending.poll());
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        scanned.increment(batch.size());
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        Set<String> referenced = findReferenced(batch);
+
+        int deleted = 0;
+        for (String url : batch) {
+            if (referenced.contains(url)) {
+                continue;
+            }
+
+            try {
+                long bytes = delete(url, cutoff);
+                if (bytes >= 0) {
+                    deleted++;
+                    reclaimedFiles.increment();
+                    reclaimedBytes.increment(bytes);
+                }
+            } catch (NoSuchFileException e) {
+                // 확인하는 사이에 이미 삭제됨
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("업로드 파일 정리: {}개 중 {}개 삭제", batch.size(), deleted);
+        }
+        return deleted;
+    }
+
+    // 업로드 폴더 아래 모든 파일 주소 (/{하위 폴더}/{파일명}), 숨김 파일은 임시 파일(.tmp)만 포함
+    private List<String> listUploads() throws IOException {
+        Path root = Paths.get(fileUploadProperties.getUploadDir());
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+
+        List<String> urls = new ArrayList<>();
+        try (Stream<Path> directories = Files.list(root)) {
+            for (Path directory : directories.filter(Files::isDirectory).sorted().toList()) {
+                try (Stream<Path> files = Files.list(directory)) {
+                    files.filter(Files::isRegularFile)
+                            .map(file -> file.getFileName().toString())
+                            .filter(name -> !name.startsWith(".") || name.endsWith(TEMP_SUFFIX))
+                            .sorted()
+                            .forEach(name -> urls.add("/" + directory.getFileName() + "/" + name));
+                }
+            }
+        }
+
+        return urls;
+    }
+
+    // 배치 안에서 DB가 쓰고 있는 주소 (원본은 게시글/댓글/프로필, 줄인 이미지는 작업 기록)
+    private Set<String> findReferenced(List<String> batch) {
+        List<String> originals = new ArrayList<>();
+        List<String> variants = new ArrayList<>();
+        for (String url : batch) {
+            String name = url.substring(url.lastIndexOf('/') + 1);
+            if (name.startsWith(".")) {
+                continue;
+            }
+            (VARIANT_NAME.matcher(name).matches() ? variants : originals).add(url);
+        }
+
+        Set<String> referenced = new HashSet<>();
+        if (!originals.isEmpty()) {
+            referenced.addAll(boardImageRepository.findImageUrlsIn(originals));
+            referenced.addAll(commentImageRepository.findImageUrlsIn(originals));
+            referenced.addAll(userRepository.findProfileImageUrlsIn(originals));
+        }
+        if (!variants.isEmpty()) {
+            referenced.addAll(imageVariantJobRepository.findThumbnailUrlsIn(variants));
+            referenced.addAll(imageVariantJobRepository.findMediumUrlsIn(variants));
+        }
+
+        return referenced;
+    }
+
+    /**
+     * 쓰는 곳이 없는 파일 하나 삭제 (수정 시각이 cutoff 이후면 남김)
+     * 원본은 잠금 안에서 참조를 한번 더 확인하고, 지우면 줄인 이미지와 작업 기록도 같이 삭제
+     * @return 삭제한 바이트 수 (남겼으면 -1)
+     */
+    private long delete(String url, Instant cutoff) throws IOException {
+        String name = url.substring(url.lastIndexOf('/') + 1);
+        Path file = Paths.get(fileUploadProperties.getUploadDir() + url);
+
+        // 서버가 쓰는 중에 종료돼서 남은 임시 파일, 원본이 정리되고 남은 줄인 이미지
+        if (name.startsWith(".") || VARIANT_NAME.matcher(name).matches()) {
+            if (Files.getLastModifiedTime(file).toInstant().isAfter(cutoff)) {
+                return -1;
+            }
+            long size = Files.size(file);
+            Files.delete(file);
+            hotImageCache.invalidate(url);
+            return size;
+        }
+
+        long bytes = fileStorageService.deleteUnused(url, cutoff, () -> isUnreferenced(url));
+        if (bytes >= 0) {
+            imageVariantService.deleteVariants(url);
+        }
+        return bytes;
+    }
+
+    private boolean isUnreferenced(String url) {
+        return boardImageRepository.countByImageUrl(url) == 0
+                && commentImageRepository.countByImageUrl(url) == 0
+                && userRepository.countByProfileImageUrl(url) == 0;
+    }
+}
@@ -0,0 +1,102 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.config.FileUploadProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 다중 업로드 파일을 동시에 검증/저장
+// 서버 전체는 고정 크기 스레드 풀로, 요청 하나는 세마포어로 동시 저장 수를 제한해서 한 요청이 디스크를 독점하지 않게 함
+// 풀 대기열이 가득 차면 요청 스레드가 직접 저장 (순차 저장과 같은 속도로 떨어질 뿐 거절하지 않음)
+@Slf4j
+@Service
+public class ParallelFileStorage {
+
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final FileStorageService fileStorageService;
+    private final int maxConcurrentPerRequest;
+    private final ThreadPoolExecutor executor;
+
+    public ParallelFileStorage(FileStorageService fileStorageService, FileUploadProperties fileUploadProperties) {
+        this.fileStorageService = fileStorageService;
+        this.maxConcurrentPerRequest = Math.max(1, fileUploadProperties.getMaxConcurrentPerRequest());
+
+        int threads = Math.max(1, fileUploadProperties.getUploadThreads());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * 여러 파일 저장
+     * @return 입력 순서대로의 결과 (파일마다 성공하면 URL, 실패하면 오류 메시지)
+     */
+    public List<StoreResult> storeFiles(List<MultipartFile> files, String subDirectory) {
+        Semaphore permits = new Semaphore(maxConcurrentPerRequest);
+        List<CompletableFuture<StoreResult>> futures = new ArrayList<>(files.size());
+
+        for (MultipartFile file : files) {
+            permits.acquireUninterruptibly();
+            futures.add(CompletableFuture
+                    .supplyAsync(() -> store(file, subDirectory), executor)
+                    .whenComplete((result, e) -> permits.release()));
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    // 파일 하나 저장 (예외는 결과로 바꿔서 다른 파일에 영향 없게)
+    private StoreResult store(MultipartFile file, String subDirectory) {
+        String originalFileName = file.getOriginalFilename();
+        try {
+            return StoreResult.stored(originalFileName, fileStorageService.storeFile(file, subDirectory));
+        } catch (IllegalArgumentException e) {
+            return StoreResult.failed(originalFileName, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("파일 저장 실패: {}", originalFileName, e);
+            return StoreResult.failed(originalFileName, "파일 저장에 실패했습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 파일 하나의 저장 결과 (imageUrl과 error 중 하나만 있음)
+    public record StoreResult(String originalFileName, String imageUrl, String error) {
+
+        static StoreResult stored(String originalFileName, String imageUrl) {
+            return new StoreResult(originalFileName, imageUrl, null);
+        }
+
+        static StoreResult failed(String originalFileName, String error) {
+            return new StoreResult(originalFileName, null, error);
+        }
+
+        public boolean isStored() {
+            return imageUrl != null;
+        }
+    }
+}
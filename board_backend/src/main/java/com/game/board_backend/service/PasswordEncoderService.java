@@ -1,18 +1,77 @@
 package com.game.board_backend.service;
 
-import lombok.RequiredArgsConstructor;
+import com.game.board_backend.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비밀번호 암호화/검증을 전용 스레드 풀에서 실행 (벌크헤드)
+// BCrypt는 일부러 느린 연산이라 요청 스레드에서 돌리면 로그인이 몰릴 때 다른 API까지 스레드가 부족해짐
+// 풀과 대기열 크기를 제한하고, 가득 차면 기다리지 않고 바로 503으로 거절
 @Service
-@RequiredArgsConstructor
 public class PasswordEncoderService {
 
     private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejected;
+
+    public PasswordEncoderService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.threads:0}") int threads,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.wait-timeout:5000}") long waitTimeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        // 0이면 CPU 코어 수 (해싱은 CPU 작업이라 그 이상은 의미 없음)
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("password.hash").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash").tag("operation", "matches").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait").register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected").register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
 
     // 비밀번호 암호화
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
     }
 
     /**
@@ -22,6 +81,43 @@ public class PasswordEncoderService {
      * @return 일치 여부
      */
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 풀에 작업을 넣고 결과를 기다림 (대기열이 가득 찼거나 너무 오래 걸리면 PasswordHashingBusyException)
+    private <T> T submit(Timer timer, Callable<T> task) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("요청이 취소되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
     }
 }
@@ -0,0 +1,26 @@
+package com.game.board_backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 내용 주소 방식 파일의 주소별 잠금 (주소 해시로 나눠서 공유)
+// 같은 내용이 다시 업로드되면서 기존 파일을 재사용하는 것과 정리 작업(OrphanedUploadCollector)의 삭제가 섞이지 않도록 사용
+@Component
+public class StoredFileLocks {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Lock[] locks = new Lock[LOCK_STRIPES];
+
+    public StoredFileLocks() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock lockFor(String url) {
+        return locks[Math.floorMod(url.hashCode(), LOCK_STRIPES)];
+    }
+}
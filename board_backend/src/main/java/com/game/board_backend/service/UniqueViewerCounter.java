@@ -0,0 +1,196 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.model.BoardViewSketch;
+import com.game.board_backend.repository.BoardViewSketchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시글별 고유 조회자 수 (HyperLogLog로 근사)
+// 조회자 목록을 그대로 저장하면 메모리가 너무 커서 게시글당 고정 크기 스케치만 유지
+@Slf4j
+@Component
+public class UniqueViewerCounter {
+
+    private final BoardViewSketchRepository boardViewSketchRepository;
+    private final int precision;
+
+    // 최근에 조회된 게시글의 스케치 (저장 후 한동안 조회 없으면 메모리에서 제거)
+    private final Map<Long, Entry> sketches = new ConcurrentHashMap<>();
+
+    public UniqueViewerCounter(
+            BoardViewSketchRepository boardViewSketchRepository,
+            @Value("${board.unique-viewers.error-rate:0.02}") double errorRate,
+            @Value("${board.unique-viewers.max-bytes:4096}") int maxBytes
+    ) {
+        this.boardViewSketchRepository = boardViewSketchRepository;
+        this.precision = HyperLogLog.precisionFor(errorRate, maxBytes);
+        log.info("고유 조회자 스케치: precision {} ({}바이트, 표준 오차 약 {}%)",
+                precision, 1 << precision, String.format("%.2f", 104 / Math.sqrt(1 << precision)));
+    }
+
+    // 조회자 추가 (로그인 유저는 유저 ID, 비로그인은 클라이언트 정보로 만든 키)
+    // flush()가 제거한 스케치에 더했으면 새로 읽은 스케치에 다시 추가 (같은 조회자를 두 번 넣어도 결과는 같음)
+    public void offer(Long boardId, String viewerKey) {
+        while (true) {
+            Entry entry = load(boardId);
+            if (entry.sketch.offer(viewerKey)) {
+                entry.estimateStale = true;
+                entry.dirty = true;
+            }
+            entry.idle = false;
+            if (!entry.retired || sketches.get(boardId) == entry) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 고유 조회자 수 추정치
+     * 메모리에 있으면 레지스터가 바뀌었을 때만 다시 계산하고, 없으면 스케치를 읽지 않고 마지막으로 저장된 추정치 사용
+     */
+    public long estimate(Long boardId) {
+        Entry entry = sketches.get(boardId);
+        if (entry != null) {
+            return entry.estimate();
+        }
+
+        return boardViewSketchRepository.findUniqueViewerCountByBoardId(boardId).orElse(0L);
+    }
+
+    // 게시글 삭제 시 메모리에서도 제거 (DB 행은 FK CASCADE로 삭제)
+    public void remove(Long boardId) {
+        sketches.remove(boardId);
+    }
+
+    @Scheduled(fixedDelayString = "${board.unique-viewers.flush-interval:30000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 변경된 스케치만 저장
+     * @return 저장한 스케치 수
+     */
+    public synchronized int flush() {
+        List<BoardViewSketch> changed = new ArrayList<>();
+        Map<Long, Entry> changedEntries = new HashMap<>();
+
+        sketches.forEach((boardId, entry) -> {
+            if (entry.dirty) {
+                entry.dirty = false;
+                BoardViewSketch sketch = new BoardViewSketch();
+                sketch.setBoardId(boardId);
+                sketch.setRegisters(entry.sketch.toBytes());
+                sketch.setUniqueViewerCount(entry.estimate());
+                changed.add(sketch);
+                changedEntries.put(boardId, entry);
+            } else if (entry.idle) {
+                // 두 번 연속 변경이 없으면 메모리에서 제거 (필요하면 DB에서 다시 읽음)
+                retireIfIdle(boardId, entry);
+            } else {
+                entry.idle = true;
+            }
+        });
+
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            boardViewSketchRepository.saveAll(changed);
+            return changed.size();
+        } catch (RuntimeException e) {
+            log.warn("고유 조회자 스케치 일괄 저장 실패, 하나씩 다시 저장 ({}개)", changed.size(), e);
+        }
+
+        // 그 사이 삭제된 게시글이 섞여 있으면 일괄 저장이 실패하므로 하나씩 저장
+        // 삭제된 게시글(FK 위반)은 버리고, 그 외 실패는 메모리에 남겨서 다음 주기에 다시 저장
+        int saved = 0;
+        for (BoardViewSketch sketch : changed) {
+            try {
+                boardViewSketchRepository.save(sketch);
+                saved++;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("고유 조회자 스케치 저장 실패, 삭제된 게시글 (게시글 {})", sketch.getBoardId());
+                sketches.remove(sketch.getBoardId(), changedEntries.get(sketch.getBoardId()));
+            } catch (RuntimeException e) {
+                log.warn("고유 조회자 스케치 저장 실패, 다음 주기에 다시 시도 (게시글 {})", sketch.getBoardId(), e);
+                changedEntries.get(sketch.getBoardId()).dirty = true;
+            }
+        }
+
+        return saved;
+    }
+
+    // DB 조회는 맵 락 밖에서 하고, 그 사이 다른 요청이 먼저 넣었으면 그쪽을 사용
+    private Entry load(Long boardId) {
+        Entry entry = sketches.get(boardId);
+        if (entry != null) {
+            return entry;
+        }
+
+        Entry loaded = boardViewSketchRepository.findById(boardId)
+                .map(saved -> new Entry(HyperLogLog.fromBytes(saved.getRegisters()), saved.getUniqueViewerCount()))
+                .orElseGet(() -> new Entry(new HyperLogLog(precision), 0L));
+        Entry existing = sketches.putIfAbsent(boardId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 변경이 없는 스케치 제거 (맵 락 안에서)
+     * retired를 먼저 표시한 뒤 다시 확인해서, offer()와 동시에 실행돼도 둘 중 하나는 상대의 변경을 봄
+     */
+    private void retireIfIdle(Long boardId, Entry entry) {
+        sketches.computeIfPresent(boardId, (id, current) -> {
+            if (current != entry) {
+                return current;
+            }
+
+            entry.retired = true;
+            if (entry.dirty || !entry.idle) {
+                entry.retired = false;
+                return current;
+            }
+            return null;
+        });
+    }
+
+    private static class Entry {
+        private final HyperLogLog sketch;
+        private volatile boolean dirty;
+        private volatile boolean idle;
+        private volatile boolean retired;
+        // 마지막으로 계산한 추정치 (offer()가 레지스터를 바꾸면 estimateStale을 켜서 다음 조회 때 다시 계산)
+        private volatile long estimate;
+        private volatile boolean estimateStale;
+
+        private Entry(HyperLogLog sketch, long estimate) {
+            this.sketch = sketch;
+            this.estimate = estimate;
+        }
+
+        // 다시 계산하는 중에 바뀐 레지스터는 estimateStale이 다시 켜져서 다음 조회 때 반영
+        private long estimate() {
+            if (estimateStale) {
+                estimateStale = false;
+                estimate = sketch.estimate();
+            }
+            return estimate;
+        }
+    }
+}
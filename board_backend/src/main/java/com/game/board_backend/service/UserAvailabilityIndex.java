@@ -0,0 +1,185 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.repository.UserIdentityView;
+import com.game.board_backend.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 아이디/이메일/닉네임 사용 여부를 DB 조회 없이 1차 판단하기 위한 블룸 필터
+// 필터에 없으면 확실히 사용 가능, 있으면 오탐일 수 있어서 DB로 다시 확인
+// 서버 시작 시 전체 유저로 만들고, 회원가입/프로필 변경 커밋 후 값을 추가
+// 변경 전 닉네임/이메일은 지울 수 없어서 오탐으로 남음 (예상 개수를 넘으면 백그라운드 스레드에서 DB로 다시 생성)
+@Slf4j
+@Component
+public class UserAvailabilityIndex {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final double fpp;
+    private final long minCapacity;
+
+    // 로딩 전에는 null (모든 확인이 DB로 감)
+    private volatile Filters filters;
+
+    // 재생성은 요청 스레드를 막지 않도록 전용 스레드에서 실행
+    private final ExecutorService rebuildExecutor;
+    // 재생성끼리는 순서대로 (DB를 읽는 동안 this 락은 잡지 않음)
+    private final Object rebuildLock = new Object();
+    // 재생성 요청 여부, 재생성 중에 추가된 값 (새 필터로 바꾸기 전에 다시 넣음), this 락으로 보호
+    private boolean rebuildRequested;
+    private List<Identity> addedDuringRebuild;
+
+    public UserAvailabilityIndex(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.availability.fpp:0.01}") double fpp,
+            @Value("${user.availability.min-capacity:10000}") long minCapacity
+    ) {
+        this.userRepository = userRepository;
+        this.fpp = fpp;
+        this.minCapacity = minCapacity;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-availability-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("user.availability.filter.bytes", this, UserAvailabilityIndex::sizeInBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    public boolean mightContainUserId(String userId) {
+        Filters current = filters;
+        return current == null || current.userIds.mightContain(userId);
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters current = filters;
+        return current == null || current.emails.mightContain(email);
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        Filters current = filters;
+        return current == null || current.nicknames.mightContain(nickname);
+    }
+
+    /**
+     * 회원가입/프로필 변경 커밋 후 호출 (null인 값은 건너뜀)
+     * 재생성 중이면 값을 따로 기록해서 새 필터에도 넣음 (커밋 후 호출이라 기록되지 않은 값은 재생성이 DB에서 읽음)
+     * 예상 개수를 넘으면 재생성만 요청하고 바로 반환
+     */
+    public synchronized void add(String userId, String email, String nickname) {
+        if (addedDuringRebuild != null) {
+            addedDuringRebuild.add(new Identity(userId, email, nickname));
+        }
+
+        Filters current = filters;
+        if (current == null) {
+            return;
+        }
+
+        current.put(userId, email, nickname);
+        if (current.inserted > current.capacity && !rebuildRequested) {
+            rebuildRequested = true;
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    // DB의 전체 유저로 다시 생성 (ID 순서로 BATCH_SIZE명씩 끊어서 읽음)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                addedDuringRebuild = new ArrayList<>();
+            }
+
+            try {
+                long start = System.currentTimeMillis();
+                long capacity = Math.max(minCapacity, userRepository.count() * 2);
+                Filters rebuilt = new Filters(capacity, fpp);
+
+                long lastId = 0L;
+                List<UserIdentityView> batch;
+                do {
+                    batch = userRepository.findIdentitiesAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+                    for (UserIdentityView view : batch) {
+                        rebuilt.put(view.getUserId(), view.getEmail(), view.getNickname());
+                        lastId = view.getId();
+                    }
+                } while (batch.size() == BATCH_SIZE);
+
+                synchronized (this) {
+                    addedDuringRebuild.forEach(added -> rebuilt.put(added.userId(), added.email(), added.nickname()));
+                    filters = rebuilt;
+                }
+                log.info("중복 확인 필터 생성: 유저 {}명, 용량 {} ({}ms)",
+                        rebuilt.inserted, capacity, System.currentTimeMillis() - start);
+            } finally {
+                synchronized (this) {
+                    addedDuringRebuild = null;
+                    rebuildRequested = false;
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private double sizeInBytes() {
+        Filters current = filters;
+        return current == null ? 0
+                : current.userIds.sizeInBytes() + current.emails.sizeInBytes() + current.nicknames.sizeInBytes();
+    }
+
+    private record Identity(String userId, String email, String nickname) {
+    }
+
+    private static class Filters {
+        private final BloomFilter userIds;
+        private final BloomFilter emails;
+        private final BloomFilter nicknames;
+        private final long capacity;
+        private long inserted;
+
+        private Filters(long capacity, double fpp) {
+            this.userIds = new BloomFilter(capacity, fpp);
+            this.emails = new BloomFilter(capacity, fpp);
+            this.nicknames = new BloomFilter(capacity, fpp);
+            this.capacity = capacity;
+        }
+
+        private void put(String userId, String email, String nickname) {
+            if (userId != null) {
+                userIds.put(userId);
+            }
+            if (email != null) {
+                emails.put(email);
+            }
+            if (nickname != null) {
+                nicknames.put(nickname);
+            }
+            inserted++;
+        }
+    }
+}
@@ -1,70 +1,117 @@
 package com.game.board_backend.service;
 
+import com.game.board_backend.cache.BoardDetailCache;
+import com.game.board_backend.cache.BoardListVersion;
+import com.game.board_backend.cache.LikedBoardCache;
 import com.game.board_backend.dto.AuthResponse;
 import com.game.board_backend.dto.UserDto;
 import com.game.board_backend.model.User;
 import com.game.board_backend.model.UserRole;
+import com.game.board_backend.repository.BoardRepository;
+import com.game.board_backend.repository.UserIdentityView;
 import com.game.board_backend.repository.UserRepository;
+import com.game.board_backend.search.BoardSearchIndex;
 import com.game.board_backend.security.JwtTokenProvider;
+import com.game.board_backend.security.TokenVersionRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordEncoderService passwordEncoderService;
     private final JwtTokenProvider jwtTokenProvider;
     private final FileStorageService fileStorageService;
+    private final LikedBoardCache likedBoardCache;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardListVersion boardListVersion;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    private final ImageVariantService imageVariantService;
+    private final BoardRepository boardRepository;
+    private final BoardSearchIndex boardSearchIndex;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final TransactionTemplate transactionTemplate;
 
     // 회원가입
-    @Transactional
+    // 비밀번호 해시는 대기 시간이 길 수 있어서 DB 커넥션을 잡지 않은 상태에서 계산하고, 저장만 트랜잭션으로 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDto.Response signUp(UserDto.SignUp dto) {
-        // 아이디 중복체크
-        if (userRepository.existsByUserId(dto.getUserId())) {
+        // 아이디, 이메일, 닉네임 중복체크 (한번의 쿼리로 조회)
+        List<UserIdentityView> conflicts =
+                userRepository.findConflicts(dto.getUserId(), dto.getEmail(), dto.getNickname());
+        if (conflicts.stream().anyMatch(u -> dto.getUserId().equals(u.getUserId()))) {
             throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
         }
-
-        // 이메일 중복체크
-        if (userRepository.existsByEmail(dto.getEmail())) {
+        if (conflicts.stream().anyMatch(u -> dto.getEmail().equals(u.getEmail()))) {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
         }
-
-        // 닉네임 중복체크
-        if (userRepository.existsByNickname(dto.getNickname())) {
+        if (conflicts.stream().anyMatch(u -> dto.getNickname().equals(u.getNickname()))) {
             throw new IllegalArgumentException("이미 존재하는 닉네임입니다.");
         }
 
         // User 엔티티 생성
         User user = new User();
         user.setUserId(dto.getUserId());
-        user.setPassword(passwordEncoder.encode(dto.getPassword()));    // 비밀번호 암호화
+        user.setPassword(passwordEncoderService.encode(dto.getPassword()));    // 비밀번호 암호화
         user.setEmail(dto.getEmail());
         user.setNickname(dto.getNickname());
         user.setRole(UserRole.USER);
 
-        User savedUser = userRepository.saveAndFlush(user);
+        // 위 확인과 저장 사이에 같은 값으로 가입한 경우는 유니크 제약조건으로 막힘
+        User savedUser;
+        try {
+            savedUser = transactionTemplate.execute(status -> {
+                User saved = userRepository.saveAndFlush(user);
+                AfterCommit.run(() -> userAvailabilityIndex.add(dto.getUserId(), dto.getEmail(), dto.getNickname()));
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 사용 중인 아이디, 이메일 또는 닉네임입니다.");
+        }
+
         return new UserDto.Response(savedUser);
     }
 
-    // 로그인
+    /**
+     * 아이디/이메일/닉네임 사용 가능 여부 (요청한 항목만, 나머지는 null)
+     * 블룸 필터에 없으면 DB 조회 없이 사용 가능, 있을 수도 있으면 DB로 확인
+     */
+    public UserDto.Availability checkAvailability(String userId, String email, String nickname) {
+        Boolean userIdAvailable = userId == null ? null
+                : !userAvailabilityIndex.mightContainUserId(userId) || !userRepository.existsByUserId(userId);
+        Boolean emailAvailable = email == null ? null
+                : !userAvailabilityIndex.mightContainEmail(email) || !userRepository.existsByEmail(email);
+        Boolean nicknameAvailable = nickname == null ? null
+                : !userAvailabilityIndex.mightContainNickname(nickname) || !userRepository.existsByNickname(nickname);
+
+        return new UserDto.Availability(userIdAvailable, emailAvailable, nicknameAvailable);
+    }
+
+    // 로그인 (비밀번호 검증 중에 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(UserDto.Login dto) {
         // 사용자 조회
         User user = userRepository.findByUserId(dto.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다."));
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
+        if (!passwordEncoderService.matches(dto.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다.");
         }
 
         // JWT 토큰 생성
-        String token = jwtTokenProvider.createToken(user.getId(), user.getUserId());
+        String token = jwtTokenProvider.createToken(user.getId(), user.getUserId(), user.getRole(), user.getTokenVersion());
 
         return new AuthResponse(token, new UserDto.Response(user));
     }
@@ -77,6 +124,23 @@ public class UserService {
         return new UserDto.Response(user);
     }
 
+    // 권한 변경 (관리자 전용)
+    // 토큰 버전을 올려서 이전 권한이 들어있는 토큰은 다시 로그인할 때까지 거부
+    @Transactional
+    public UserDto.Response changeRole(Long userId, UserRole role) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+        if (user.getRole() != role) {
+            long tokenVersion = user.getTokenVersion() + 1;
+            user.setRole(role);
+            user.setTokenVersion(tokenVersion);
+            AfterCommit.run(() -> tokenVersionRegistry.update(userId, tokenVersion));
+        }
+
+        return new UserDto.Response(user);
+    }
+
     // 프로필 수정
     @Transactional
     public UserDto.Response updateProfile(Long userId, UserDto.Update dto) {
@@ -99,11 +163,23 @@ public class UserService {
             user.setEmail(dto.getEmail());
         }
 
-        // 프로필 이미지 변경
-        if (dto.getProfileImageUrl() != null) {
+        // 프로필 이미지 변경 (이미 만들어진 썸네일이 있으면 같이, 없으면 완료될 때 채워짐)
+        if (dto.getProfileImageUrl() != null && !dto.getProfileImageUrl().equals(user.getProfileImageUrl())) {
+            ImageVariants variants = imageVariantService.findVariants(List.of(dto.getProfileImageUrl()))
+                    .getOrDefault(dto.getProfileImageUrl(), ImageVariants.NONE);
             user.setProfileImageUrl(dto.getProfileImageUrl());
+            user.setProfileThumbnailUrl(variants.thumbnailUrl());
         }
 
+        // 게시글 상세에 작성자 닉네임, 프로필 이미지가 들어가므로 캐시된 글 무효화
+        String nickname = user.getNickname();
+        String email = user.getEmail();
+        AfterCommit.run(() -> {
+            userAvailabilityIndex.add(null, email, nickname);
+            boardDetailCache.invalidateAuthor(userId);
+            boardListVersion.bump();
+        });
+
         return new UserDto.Response(user);
     }
 
@@ -114,13 +190,14 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         // 기존 프로필 이미지 삭제
-        if (user.getProfileImageUrl() != null) {
-            fileStorageService.deleteFile(user.getProfileImageUrl());
-        }
+        deleteProfileFiles(user);
 
-        // 새 이미지 저장
+        // 새 이미지 저장 (썸네일은 ImageVariantService가 만든 뒤에 채움)
         String imageUrl = fileStorageService.storeFile(file, "profiles");
         user.setProfileImageUrl(imageUrl);
+        user.setProfileThumbnailUrl(null);
+        imageVariantService.enqueue(imageUrl);
+        AfterCommit.run(() -> boardDetailCache.invalidateAuthor(userId));
 
         return new UserDto.ProfileImageResponse(imageUrl);
     }
@@ -132,48 +209,88 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         if (user.getProfileImageUrl() != null) {
-            fileStorageService.deleteFile(user.getProfileImageUrl());
+            deleteProfileFiles(user);
             user.setProfileImageUrl(null);
+            user.setProfileThumbnailUrl(null);
+            AfterCommit.run(() -> boardDetailCache.invalidateAuthor(userId));
         }
     }
 
-    // 비밀번호 삭제
-    @Transactional
+    // 비밀번호 변경 (검증, 해시는 트랜잭션 밖에서 하고 저장만 트랜잭션으로 실행)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(Long userId, UserDto.PasswordChange dto) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(dto.getCurrentPassword(), user.getPassword())) {
+        if (!passwordEncoderService.matches(dto.getCurrentPassword(), user.getPassword())) {
             throw new IllegalArgumentException("현재 비밀번호가 올바르지 않습니다.");
         }
 
         // 새 비밀번호와 현재 비밀번호가 같은지 확인
-        if (passwordEncoder.matches(dto.getNewPassword(), user.getPassword())) {
+        if (passwordEncoderService.matches(dto.getNewPassword(), user.getPassword())) {
             throw new IllegalArgumentException("새 비밀번호는 현재 비밀번호와 달라야 합니다.");
         }
 
-        // 비밀번호 변경
-        user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
+        // 비밀번호 변경 (확인하는 사이에 비밀번호가 바뀌었으면 실패)
+        String currentHash = user.getPassword();
+        String newHash = passwordEncoderService.encode(dto.getNewPassword());
+        transactionTemplate.executeWithoutResult(status -> {
+            User current = findUserWithPassword(userId, currentHash);
+            current.setPassword(newHash);
+        });
     }
 
-    // 회원 탈퇴
-    @Transactional
+    // 회원 탈퇴 (비밀번호 확인은 트랜잭션 밖에서, 삭제만 트랜잭션으로 실행)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteAccount(Long userId, String password) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordEncoderService.matches(password, user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
-        // 프로필 이미지 삭제
-        if (user.getProfileImageUrl() != null) {
-            fileStorageService.deleteFile(user.getProfileImageUrl());
+        String currentHash = user.getPassword();
+        transactionTemplate.executeWithoutResult(status -> {
+            User current = findUserWithPassword(userId, currentHash);
+
+            // 프로필 이미지 삭제
+            deleteProfileFiles(current);
+
+            // 회원 삭제 (게시글과 댓글은 CASCADE로 자동 삭제, 검색 색인과 고유 조회자 스케치는 커밋 후 직접 제거)
+            List<Long> boardIds = boardRepository.findIdsByUserId(userId);
+            userRepository.delete(current);
+            AfterCommit.run(() -> {
+                boardIds.forEach(boardId -> {
+                    boardSearchIndex.remove(boardId);
+                    uniqueViewerCounter.remove(boardId);
+                });
+                likedBoardCache.evict(userId);
+                tokenVersionRegistry.revoke(userId);
+                boardDetailCache.invalidateAuthor(userId);
+                boardListVersion.bump();
+            });
+        });
+    }
+
+    // 트랜잭션 안에서 다시 조회 (트랜잭션 밖에서 확인한 비밀번호가 그 사이에 바뀌었으면 실패)
+    private User findUserWithPassword(Long userId, String passwordHash) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        if (!user.getPassword().equals(passwordHash)) {
+            throw new IllegalArgumentException("비밀번호가 변경되었습니다. 다시 시도해주세요.");
         }
 
-        // 회원 삭제 (게시글과 댓글은 CASCADE로 자동 삭제)
-        userRepository.delete(user);
+        return user;
+    }
+
+    // 프로필 이미지 원본과 썸네일 파일 삭제 (내용 주소 방식이면 정리 작업이 나중에 삭제)
+    private void deleteProfileFiles(User user) {
+        String imageUrl = user.getProfileImageUrl();
+        if (imageUrl != null && fileStorageService.deleteFile(imageUrl)) {
+            imageVariantService.deleteVariants(imageUrl);
+        }
     }
 }
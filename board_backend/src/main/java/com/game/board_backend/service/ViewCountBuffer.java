@@ -0,0 +1,170 @@
+package com.game.board_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수를 메모리에 모아뒀다가 주기적으로 DB에 반영 (write-behind)
+// 조회할 때마다 boards 행을 UPDATE 하면 인기글에서 행 락 대기가 생겨서 분리함
+// 상세 응답의 조회수도 여기서 계산 (DB 값을 한번 읽어두고 누적분을 더함, 상세 캐시에는 조회수를 넣지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE boards SET view_count = view_count + ? WHERE id = ?";
+    private static final String SELECT_SQL = "SELECT view_count FROM boards WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 ID -> 아직 DB에 반영 안 된 조회수
+    private final Map<Long, PendingViews> pending = new ConcurrentHashMap<>();
+
+    // 조회수 증가 (락 없이 LongAdder 셀에 나눠서 누적)
+    // flush()가 제거한 항목에 더했으면 그 조회수는 반영되지 않으므로 새 항목에 다시 더함
+    public void increment(Long boardId) {
+        while (true) {
+            PendingViews views = pending.computeIfAbsent(boardId, id -> new PendingViews());
+            views.views.increment();
+            if (!views.retired || pending.get(boardId) == views) {
+                return;
+            }
+        }
+    }
+
+    // DB에 아직 반영 안 된 조회수
+    public long pendingCount(Long boardId) {
+        PendingViews views = pending.get(boardId);
+        return views != null ? views.unflushed() : 0L;
+    }
+
+    /**
+     * 상세 응답에 보여줄 조회수 (DB에 반영된 값 + 아직 반영 안 된 값)
+     * 항목이 처음 쓰일 때 DB 값을 한번 읽어서 이 항목이 반영하기 전 값(base)을 기록하고, 이후에는 DB를 읽지 않음
+     */
+    public long viewCount(Long boardId) {
+        PendingViews views = pending.computeIfAbsent(boardId, id -> new PendingViews());
+        return baseOf(boardId, views) + views.views.sum();
+    }
+
+    // flush()와 같은 락 안에서 읽어서 DB 값과 flushed가 같은 시점 기준이 되게 함
+    private long baseOf(Long boardId, PendingViews views) {
+        long base = views.base;
+        if (base >= 0) {
+            return base;
+        }
+
+        synchronized (this) {
+            if (views.base < 0) {
+                List<Long> saved = jdbcTemplate.queryForList(SELECT_SQL, Long.class, boardId);
+                views.base = saved.isEmpty() ? 0L : saved.get(0) - views.flushed;
+            }
+            return views.base;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    // 서버 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 누적된 조회수를 게시글별 UPDATE 한번씩 배치로 반영
+     * LongAdder는 초기화하지 않고 반영한 값(flushed)만 따로 기록해서 반영 중에 들어온 조회수가 유실되지 않게 함
+     * @return 반영한 게시글 수
+     */
+    public synchronized int flush() {
+        List<Long> boardIds = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+
+        pending.forEach((boardId, views) -> {
+            long delta = views.unflushed();
+            if (delta > 0) {
+                boardIds.add(boardId);
+                deltas.add(delta);
+                batchArgs.add(new Object[]{delta, boardId});
+            } else if (views.idle) {
+                // 두 번 연속 변경이 없으면 메모리에서 제거
+                retireIfIdle(boardId, views);
+            } else {
+                views.idle = true;
+            }
+        });
+
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            // 반영 실패 시 flushed를 올리지 않아서 다음 주기에 다시 시도됨
+            log.error("조회수 반영 실패 (게시글 {}개)", batchArgs.size(), e);
+            return 0;
+        }
+
+        for (int i = 0; i < boardIds.size(); i++) {
+            PendingViews views = pending.get(boardIds.get(i));
+            if (views != null) {
+                views.flushed += deltas.get(i);
+                views.idle = false;
+            }
+        }
+
+        // 상세 캐시는 비우지 않고(상세 조회수는 viewCount()가 계산) 목록 버전도 올리지 않음
+        // (목록은 약한 ETag라 조회수가 조금 늦게 보여도 됨, 올리면 조회가 있을 때마다 목록 ETag가 바뀜)
+
+        log.debug("조회수 반영: 게시글 {}개", boardIds.size());
+        return boardIds.size();
+    }
+
+    /**
+     * 변경이 없는 항목 제거 (맵 락 안에서)
+     * retired를 먼저 표시한 뒤 다시 확인해서, increment()와 동시에 실행돼도 둘 중 하나는 상대의 변경을 봄
+     * (이쪽이 증가를 보면 제거 취소, increment()가 retired를 보면 새 항목에 다시 더함)
+     */
+    private void retireIfIdle(Long boardId, PendingViews views) {
+        pending.computeIfPresent(boardId, (id, current) -> {
+            if (current != views) {
+                return current;
+            }
+
+            views.retired = true;
+            if (views.unflushed() > 0) {
+                views.retired = false;
+                return current;
+            }
+            return null;
+        });
+    }
+
+    // flushed, idle, retired, base는 ViewCountBuffer 락(synchronized) 안에서만 변경
+    private static class PendingViews {
+        private final LongAdder views = new LongAdder();
+        private volatile long flushed;
+        // 이 항목의 조회수가 하나도 반영되기 전 DB 값 (읽기 전에는 -1)
+        private volatile long base = -1;
+        private boolean idle;
+        private volatile boolean retired;
+
+        private long unflushed() {
+            return views.sum() - flushed;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.model.Board;
+import com.game.board_backend.model.User;
+import com.game.board_backend.repository.BoardLikeRepository;
+import com.game.board_backend.repository.BoardRepository;
+import com.game.board_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 한 게시글에 여러 스레드가 동시에 좋아요를 눌러도 좋아요 수와 board_likes 행 수가 같은지 확인
+@SpringBootTest
+class BoardLikeConcurrencyTests {
+
+    private static final int USER_COUNT = 40;
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private BoardService boardService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private BoardLikeRepository boardLikeRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setUserId("liker" + i);
+            user.setPassword("password");
+            user.setNickname("좋아요" + i);
+            user.setEmail("liker" + i + "@example.com");
+            users.add(userRepository.save(user));
+        }
+
+        board = new Board();
+        board.setTitle("인기글");
+        board.setContent("좋아요 테스트");
+        board.setUser(users.get(0));
+        board = boardRepository.save(board);
+    }
+
+    // 유저 삭제 시 게시글, 좋아요는 DB CASCADE로 삭제
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    void concurrentTogglesKeepLikeCountConsistent() throws Exception {
+        // 유저마다 1 ~ 3번 토글, 같은 유저의 토글도 서로 다른 스레드에서 동시에 실행됨
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        int expectedLikes = 0;
+        for (int i = 0; i < USER_COUNT; i++) {
+            Long userId = users.get(i).getId();
+            int toggles = i % 3 + 1;
+            for (int t = 0; t < toggles; t++) {
+                tasks.add(() -> boardService.toggleLike(board.getId(), userId));
+            }
+            if (toggles % 2 == 1) {
+                expectedLikes++;
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long likeRows = boardLikeRepository.countByBoardId(board.getId());
+        long likeCount = boardRepository.findById(board.getId()).orElseThrow().getLikeCount();
+
+        assertEquals(likeRows, likeCount);
+        assertEquals(expectedLikes, likeRows);
+    }
+}
@@ -0,0 +1,141 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.dto.BoardDto;
+import com.game.board_backend.model.*;
+import com.game.board_backend.repository.*;
+import com.game.board_backend.search.BoardSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 목록 조회 쿼리 수가 페이지 크기와 상관없이 일정한지 확인
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BoardListQueryCountTests {
+
+    private static final int BOARD_COUNT = 60;
+
+    @Autowired
+    private BoardService boardService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private BoardImageRepository boardImageRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Category category;
+    private final List<Long> boardIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUserId("querycount");
+        user.setPassword("password");
+        user.setNickname("쿼리카운트");
+        user.setEmail("querycount@example.com");
+        userRepository.save(user);
+
+        category = categoryRepository.findAllByOrderByDisplayOrderAsc().get(0);
+
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            Board board = new Board();
+            board.setTitle("검색 제목 " + i);
+            board.setContent("내용 " + i);
+            board.setUser(user);
+            board.setCategory(category);
+            board.setCommentCount(1L);
+            board.setThumbnailUrl("/images/" + i + ".png");
+            boardRepository.save(board);
+            boardSearchIndex.index(board.getId(), board.getTitle(), board.getContent(), board.getCreatedAt());
+            boardIds.add(board.getId());
+
+            BoardImage image = new BoardImage();
+            image.setBoard(board);
+            image.setImageUrl("/images/" + i + ".png");
+            image.setOrderIndex(0);
+            boardImageRepository.save(image);
+
+            Comment comment = new Comment();
+            comment.setContent("댓글 " + i);
+            comment.setBoard(board);
+            comment.setUser(user);
+            commentRepository.save(comment);
+        }
+
+        boardRepository.flush();
+    }
+
+    // 검색 색인은 트랜잭션 롤백 대상이 아니라서 직접 정리
+    @AfterEach
+    void tearDown() {
+        boardIds.forEach(boardSearchIndex::remove);
+    }
+
+    @Test
+    void boardListStatementCountDoesNotDependOnPageSize() {
+        long small = countStatements(() -> boardService.getBoardList(PageRequest.of(0, 5), null));
+        long large = countStatements(() -> boardService.getBoardList(PageRequest.of(0, 50), null));
+
+        assertEquals(small, large);
+        assertEquals(2, large);
+    }
+
+    @Test
+    void searchStatementCountDoesNotDependOnPageSize() {
+        long small = countStatements(() -> boardService.searchBoards("검색", PageRequest.of(0, 5), null));
+        long large = countStatements(() -> boardService.searchBoards("검색", PageRequest.of(0, 50), null));
+
+        assertEquals(small, large);
+        assertEquals(1, large);
+    }
+
+    @Test
+    void categoryListStatementCountDoesNotDependOnPageSize() {
+        long small = countStatements(() -> boardService.getBoardsByCategory(category.getId(), PageRequest.of(0, 5), null));
+        long large = countStatements(() -> boardService.getBoardsByCategory(category.getId(), PageRequest.of(0, 50), null));
+
+        assertEquals(small, large);
+    }
+
+    @Test
+    void listItemCarriesJoinedColumns() {
+        Page<BoardDto.ListItem> page = boardService.getBoardList(PageRequest.of(0, 1), null);
+        BoardDto.ListItem item = page.getContent().get(0);
+
+        assertEquals("쿼리카운트", item.getAuthorNickname());
+        assertEquals(1L, item.getCommentCount());
+        assertEquals(category.getName(), item.getCategoryName());
+        assertEquals("/images/" + (BOARD_COUNT - 1) + ".png", item.getThumbnailUrl());
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
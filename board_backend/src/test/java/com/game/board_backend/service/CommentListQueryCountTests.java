@@ -0,0 +1,124 @@
+package com.game.board_backend.service;
+
+import com.game.board_backend.dto.CommentDto;
+import com.game.board_backend.model.*;
+import com.game.board_backend.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 댓글 목록 조회 쿼리 수가 댓글 수와 상관없이 일정한지 확인
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentListQueryCountTests {
+
+    private static final int COMMENT_COUNT = 30;
+    private static final int AUTHOR_COUNT = 5;
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private CommentImageRepository commentImageRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Board board;
+    private final List<User> authors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            User user = new User();
+            user.setUserId("commentcount" + i);
+            user.setPassword("password");
+            user.setNickname("댓글작성자" + i);
+            user.setEmail("commentcount" + i + "@example.com");
+            authors.add(userRepository.save(user));
+        }
+
+        board = new Board();
+        board.setTitle("댓글 많은 글");
+        board.setContent("내용");
+        board.setUser(authors.get(0));
+        boardRepository.save(board);
+
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Comment comment = new Comment();
+            comment.setContent("댓글 " + i);
+            comment.setBoard(board);
+            comment.setUser(authors.get(i % AUTHOR_COUNT));
+            commentRepository.save(comment);
+
+            // 이미지 순서가 저장 순서와 반대여도 orderIndex 순으로 나와야 함
+            for (int order = 1; order >= 0; order--) {
+                CommentImage image = new CommentImage();
+                image.setComment(comment);
+                image.setImageUrl("/images/comment-" + i + "-" + order + ".png");
+                image.setOrderIndex(order);
+                commentImageRepository.save(image);
+            }
+        }
+
+        // 영속성 컨텍스트에 남아 있으면 지연 로딩 쿼리가 안 나가서 비워둠
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void commentsByBoardUseConstantStatements() {
+        long statements = countStatements(() -> commentService.getCommentsByBoardId(board.getId()));
+
+        // 게시글 존재 확인 + 댓글/작성자 + 이미지
+        assertEquals(3, statements);
+    }
+
+    @Test
+    void commentsByUserUseConstantStatements() {
+        long statements = countStatements(() -> commentService.getCommentsByUserId(authors.get(1).getId()));
+
+        // 유저 존재 확인 + 댓글/작성자 + 이미지
+        assertEquals(3, statements);
+    }
+
+    @Test
+    void commentsCarryAuthorAndOrderedImages() {
+        List<CommentDto.Response> comments = commentService.getCommentsByBoardId(board.getId());
+
+        assertEquals(COMMENT_COUNT, comments.size());
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            CommentDto.Response comment = comments.get(i);
+            assertEquals("댓글 " + i, comment.getContent());
+            assertEquals("댓글작성자" + (i % AUTHOR_COUNT), comment.getAuthorNickname());
+            assertEquals(List.of("/images/comment-" + i + "-0.png", "/images/comment-" + i + "-1.png"),
+                    comment.getImages().stream().map(CommentDto.ImageInfo::imageUrl).toList());
+        }
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}